@@ -0,0 +1,810 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2025 Jaxydog
+ *
+ * This file is part of Ochre.
+ *
+ * Ochre is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Ochre is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Ochre. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.ochre.processor;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Generates {@code JsonConverter} implementations for types annotated with {@code GenerateJsonConverter}.
+ * <p>
+ * Generated converters convert each member with straight-line code that calls the converter for the member's type
+ * directly, without reflection or intermediate functions. Primitive members use the unboxed methods of Ochre's
+ * primitive converters. Member converters that are derived from other converters, such as list converters, are
+ * resolved once into static fields of the generated class.
+ *
+ * @author Jaxydog
+ * @since 0.1.0
+ */
+@SupportedAnnotationTypes(JsonConverterProcessor.ANNOTATION)
+public final class JsonConverterProcessor
+    extends AbstractProcessor
+{
+
+    /**
+     * The name of the annotation that is processed.
+     *
+     * @since 0.1.0
+     */
+    static final String ANNOTATION = "dev.jaxydog.ochre.converter.GenerateJsonConverter";
+    /**
+     * The name of the {@code JsonConverter} class.
+     *
+     * @since 0.1.0
+     */
+    private static final String JSON_CONVERTER = "dev.jaxydog.ochre.converter.JsonConverter";
+
+    /**
+     * Creates a new {@link JsonConverterProcessor}.
+     *
+     * @since 0.1.0
+     */
+    public JsonConverterProcessor() { }
+
+    @Override
+    public @NotNull SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(
+        final @NotNull Set<? extends @NotNull TypeElement> annotations,
+        final @NotNull RoundEnvironment environment
+    )
+    {
+        final @Nullable TypeElement annotation =
+            this.processingEnv.getElementUtils().getTypeElement(JsonConverterProcessor.ANNOTATION);
+
+        if (Objects.isNull(annotation)) return false;
+
+        for (final @NotNull Element element : environment.getElementsAnnotatedWith(annotation)) {
+            if (element.getKind() != ElementKind.RECORD && element.getKind() != ElementKind.CLASS) {
+                this.error(element, "Only records and classes may have a generated converter.");
+
+                continue;
+            }
+
+            final @NotNull TypeElement type = (TypeElement) element;
+            final @Nullable List<@NotNull Member> members = this.members(type);
+
+            if (Objects.isNull(members)) continue;
+
+            try {
+                this.generate(type, members);
+            } catch (final @NotNull IOException exception) {
+                this.error(type, "Failed to write the generated converter: " + exception.getMessage());
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Reports an error for the given element.
+     *
+     * @param element The element.
+     * @param message The error message.
+     *
+     * @since 0.1.0
+     */
+    private void error(final @NotNull Element element, final @NotNull String message) {
+        this.processingEnv.getMessager().printMessage(Kind.ERROR, message, element);
+    }
+
+    /**
+     * Returns the members of the given type that are converted, reporting an error if the type is not supported.
+     *
+     * @param type The type.
+     *
+     * @return The members, or {@code null} if the type is not supported.
+     *
+     * @since 0.1.0
+     */
+    private @Nullable List<@NotNull Member> members(final @NotNull TypeElement type) {
+        if (!type.getTypeParameters().isEmpty()) {
+            this.error(type, "Generic types may not have a generated converter.");
+
+            return null;
+        }
+        if (type.getModifiers().contains(Modifier.PRIVATE) || type.getModifiers().contains(Modifier.ABSTRACT)) {
+            this.error(type, "Types with a generated converter must not be private or abstract.");
+
+            return null;
+        }
+        if (type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC)) {
+            if (type.getKind() != ElementKind.RECORD) {
+                this.error(type, "Nested classes with a generated converter must be static.");
+
+                return null;
+            }
+        }
+
+        final @NotNull List<@NotNull Member> members = new ArrayList<>();
+        boolean supported = true;
+
+        if (type.getKind() == ElementKind.RECORD) {
+            for (final @NotNull RecordComponentElement component : type.getRecordComponents()) {
+                final @Nullable Codec codec = this.codec(component.asType(), component);
+
+                if (Objects.isNull(codec)) {
+                    supported = false;
+                } else {
+                    final @NotNull String name = component.getSimpleName().toString();
+
+                    members.add(new Member(name, name + "()", component.asType(), codec));
+                }
+            }
+
+            return supported ? members : null;
+        }
+
+        for (final @NotNull VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (field.getModifiers().contains(Modifier.STATIC)) continue;
+
+            if (field.getModifiers().contains(Modifier.PRIVATE)) {
+                this.error(field, "Fields converted by a generated converter must not be private.");
+
+                supported = false;
+
+                continue;
+            }
+
+            final @Nullable Codec codec = this.codec(field.asType(), field);
+
+            if (Objects.isNull(codec)) {
+                supported = false;
+            } else {
+                final @NotNull String name = field.getSimpleName().toString();
+
+                members.add(new Member(name, name, field.asType(), codec));
+            }
+        }
+
+        if (!supported) return null;
+
+        for (final @NotNull ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getModifiers().contains(Modifier.PRIVATE)) continue;
+            if (constructor.getParameters().size() != members.size()) continue;
+
+            boolean matches = true;
+
+            for (int index = 0; index < members.size() && matches; index += 1) {
+                final @NotNull TypeMirror parameter = constructor.getParameters().get(index).asType();
+
+                matches = this.processingEnv.getTypeUtils().isSameType(parameter, members.get(index).type());
+            }
+
+            if (matches) return members;
+        }
+
+        this.error(type, "Classes with a generated converter must declare a constructor that accepts their fields.");
+
+        return null;
+    }
+
+    /**
+     * Returns the codec used to convert values of the given type, reporting an error if the type is not supported.
+     *
+     * @param type The type.
+     * @param element The element whose type is being converted.
+     *
+     * @return The codec, or {@code null} if the type is not supported.
+     *
+     * @since 0.1.0
+     */
+    private @Nullable Codec codec(final @NotNull TypeMirror type, final @NotNull Element element) {
+        final @NotNull String converter = JsonConverterProcessor.JSON_CONVERTER;
+
+        switch (type.getKind()) {
+            case BOOLEAN -> {
+                return new Codec(converter + ".BOOLEAN", "booleanFrom", "readBoolean", "false");
+            }
+            case BYTE -> {
+                return new Codec(converter + ".BYTE", "byteFrom", "readByte", "0");
+            }
+            case SHORT -> {
+                return new Codec(converter + ".SHORT", "shortFrom", "readShort", "0");
+            }
+            case INT -> {
+                return new Codec(converter + ".INTEGER", "intFrom", "readInt", "0");
+            }
+            case LONG -> {
+                return new Codec(converter + ".LONG", "longFrom", "readLong", "0L");
+            }
+            case FLOAT -> {
+                return new Codec(converter + ".FLOAT", "floatFrom", "readFloat", "0F");
+            }
+            case DOUBLE -> {
+                return new Codec(converter + ".DOUBLE", "doubleFrom", "readDouble", "0D");
+            }
+            case DECLARED -> {
+                final @Nullable String expression = this.converterOf((DeclaredType) type, element);
+
+                return Objects.isNull(expression) ? null : new Codec(expression, "from", "read", "null");
+            }
+            default -> {
+                this.error(element, "Values of type '%s' cannot be converted.".formatted(type));
+
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Returns an expression that evaluates to the converter for the given type, reporting an error if the type is not
+     * supported.
+     *
+     * @param type The type.
+     * @param element The element whose type is being converted.
+     *
+     * @return The expression, or {@code null} if the type is not supported.
+     *
+     * @since 0.1.0
+     */
+    private @Nullable String converterOf(final @NotNull DeclaredType type, final @NotNull Element element) {
+        final @NotNull TypeElement typeElement = (TypeElement) type.asElement();
+        final @NotNull String converter = JsonConverterProcessor.JSON_CONVERTER;
+        final @NotNull List<? extends @NotNull TypeMirror> arguments = type.getTypeArguments();
+
+        switch (typeElement.getQualifiedName().toString()) {
+            case "java.lang.Boolean" -> {
+                return converter + ".BOOLEAN";
+            }
+            case "java.lang.Byte" -> {
+                return converter + ".BYTE";
+            }
+            case "java.lang.Short" -> {
+                return converter + ".SHORT";
+            }
+            case "java.lang.Integer" -> {
+                return converter + ".INTEGER";
+            }
+            case "java.lang.Long" -> {
+                return converter + ".LONG";
+            }
+            case "java.lang.Float" -> {
+                return converter + ".FLOAT";
+            }
+            case "java.lang.Double" -> {
+                return converter + ".DOUBLE";
+            }
+            case "java.lang.Number" -> {
+                return converter + ".NUMBER";
+            }
+            case "java.lang.String" -> {
+                return converter + ".STRING";
+            }
+            case "net.minecraft.util.Identifier" -> {
+                return converter + ".IDENTIFIER";
+            }
+            case "it.unimi.dsi.fastutil.ints.IntList" -> {
+                return converter + ".INTEGER.intList()";
+            }
+            case "it.unimi.dsi.fastutil.longs.LongList" -> {
+                return converter + ".LONG.longList()";
+            }
+            case "it.unimi.dsi.fastutil.doubles.DoubleList" -> {
+                return converter + ".DOUBLE.doubleList()";
+            }
+            case "java.util.List" -> {
+                if (arguments.size() != 1 || arguments.getFirst().getKind() != TypeKind.DECLARED) break;
+
+                final @Nullable String elements = this.converterOf((DeclaredType) arguments.getFirst(), element);
+
+                return Objects.isNull(elements) ? null : elements + ".list()";
+            }
+            case "java.util.Map" -> {
+                if (arguments.size() != 2 || arguments.get(1).getKind() != TypeKind.DECLARED) break;
+
+                final @NotNull TypeMirror key = arguments.getFirst();
+                final @NotNull TypeMirror string =
+                    this.processingEnv.getElementUtils().getTypeElement("java.lang.String").asType();
+
+                if (!this.processingEnv.getTypeUtils().isSameType(key, string)) break;
+
+                final @Nullable String values = this.converterOf((DeclaredType) arguments.get(1), element);
+
+                return Objects.isNull(values) ? null : values + ".map()";
+            }
+            default -> {
+                if (typeElement.getKind() == ElementKind.ENUM) {
+                    return converter + ".ofEnum(" + typeElement.getQualifiedName() + ".class)";
+                }
+                if (typeElement.getAnnotationMirrors().stream().anyMatch(this::isGenerateAnnotation)) {
+                    return this.converterName(typeElement) + ".INSTANCE";
+                }
+            }
+        }
+
+        this.error(element, "Values of type '%s' cannot be converted.".formatted(type));
+
+        return null;
+    }
+
+    /**
+     * Returns whether the given annotation is the processed annotation.
+     *
+     * @param annotation The annotation.
+     *
+     * @return Whether the annotation is processed.
+     *
+     * @since 0.1.0
+     */
+    private boolean isGenerateAnnotation(final @NotNull AnnotationMirror annotation) {
+        final @NotNull TypeElement type = (TypeElement) annotation.getAnnotationType().asElement();
+
+        return type.getQualifiedName().contentEquals(JsonConverterProcessor.ANNOTATION);
+    }
+
+    /**
+     * Returns the qualified name of the converter generated for the given type.
+     *
+     * @param type The type.
+     *
+     * @return The converter's qualified name.
+     *
+     * @since 0.1.0
+     */
+    private @NotNull String converterName(final @NotNull TypeElement type) {
+        final @NotNull PackageElement packageElement = this.processingEnv.getElementUtils().getPackageOf(type);
+        final @NotNull String simpleName = this.converterSimpleName(type);
+
+        if (packageElement.isUnnamed()) return simpleName;
+
+        return packageElement.getQualifiedName() + "." + simpleName;
+    }
+
+    /**
+     * Returns the simple name of the converter generated for the given type.
+     *
+     * @param type The type.
+     *
+     * @return The converter's simple name.
+     *
+     * @since 0.1.0
+     */
+    private @NotNull String converterSimpleName(final @NotNull TypeElement type) {
+        final @NotNull StringBuilder builder = new StringBuilder(type.getSimpleName());
+
+        for (@NotNull Element enclosing = type.getEnclosingElement(); enclosing instanceof TypeElement; ) {
+            builder.insert(0, enclosing.getSimpleName() + "_");
+
+            enclosing = enclosing.getEnclosingElement();
+        }
+
+        return builder.append("JsonConverter").toString();
+    }
+
+    /**
+     * Generates the converter for the given type.
+     *
+     * @param type The type.
+     * @param members The type's converted members.
+     *
+     * @throws IOException If the converter's source file could not be written.
+     * @since 0.1.0
+     */
+    private void generate(final @NotNull TypeElement type, final @NotNull List<@NotNull Member> members)
+        throws @NotNull IOException
+    {
+        final @NotNull PackageElement packageElement = this.processingEnv.getElementUtils().getPackageOf(type);
+        final @NotNull String simpleName = this.converterSimpleName(type);
+        final @NotNull String value = type.getQualifiedName().toString();
+        final @NotNull Map<@NotNull String, @NotNull Member> fields = new LinkedHashMap<>();
+        final @NotNull List<@NotNull Member> resolved =
+            JsonConverterProcessor.resolveConverters(simpleName, members, fields);
+        final @NotNull SourceBuilder source = new SourceBuilder();
+
+        if (!packageElement.isUnnamed()) {
+            source.line("package %s;", packageElement.getQualifiedName()).line();
+        }
+
+        source.line("import com.google.gson.JsonElement;");
+        source.line("import com.google.gson.JsonObject;");
+        source.line("import com.google.gson.stream.JsonReader;");
+        source.line("import com.google.gson.stream.JsonWriter;");
+        source.line("import dev.jaxydog.ochre.utility.FallibleBiConsumer;");
+        source.line("import dev.jaxydog.ochre.utility.FallibleFunction;");
+        source.line("import dev.jaxydog.ochre.utility.ScopedException;");
+        source.line();
+        source.line("import java.io.IOException;");
+        source.line("import java.util.NoSuchElementException;");
+        source.line();
+        source.line("/**");
+        source.line(" * A converter for {@link %s} values.", value);
+        source.line(" */");
+        source.line("@javax.annotation.processing.Generated(\"%s\")", JsonConverterProcessor.class.getName());
+        source.line("public final class %s", simpleName);
+        source.line("    extends %s<%s>", JsonConverterProcessor.JSON_CONVERTER, value);
+        source.line("{").line();
+        source.line("    /**");
+        source.line("     * The converter's instance.");
+        source.line("     */");
+        source.line("    public static final %s INSTANCE = new %s();", simpleName, simpleName).line();
+
+        // Declared after the instance, so that converters of types that contain each other may refer to it here.
+        for (final @NotNull Map.Entry<@NotNull String, @NotNull Member> entry : fields.entrySet()) {
+            final @NotNull Member member = entry.getValue();
+            final @NotNull String converter = JsonConverterProcessor.JSON_CONVERTER;
+
+            source.line("    private static final %s<%s> %s =", converter, member.type(), entry.getKey());
+            source.line("        %s;", member.codec().converter());
+        }
+
+        if (!fields.isEmpty()) source.line();
+
+        source.line("    private final Scope objectConstruction =");
+        source.line("        this.createScope(Method.INTO.context(\"object construction\"));");
+        source.line("    private final Scope intoMember =");
+        source.line("        this.createScope(Method.INTO.context(\"member conversion\"));");
+        source.line("    private final Scope objectResolution =");
+        source.line("        this.createScope(Method.FROM.context(\"object resolution\"));");
+        source.line("    private final Scope valueConstruction =");
+        source.line("        this.createScope(Method.FROM.context(\"value construction\"));");
+        source.line("    private final Scope fromMember =");
+        source.line("        this.createScope(Method.FROM.context(\"member conversion\"));");
+        source.line();
+        source.line("    private final FallibleFunction<%s, JsonObject, ScopedException> constructObject =", value);
+        source.line("        this::constructObject;");
+        source.line("    private final FallibleFunction<JsonObject, %s, ScopedException> constructValue =", value);
+        source.line("        this::constructValue;");
+        source.line("    private final FallibleBiConsumer<JsonWriter, %s, IOException> writeObject =", value);
+        source.line("        this::writeObject;");
+        source.line("    private final FallibleFunction<JsonReader, %s, IOException> readValue =", value);
+        source.line("        this::readValue;");
+        source.line();
+        source.line("    private %s() { }", simpleName).line();
+
+        source.line("    @Override");
+        source.line("    public JsonElement into(final %s value)", value);
+        source.line("        throws ScopedException");
+        source.line("    {");
+        source.line("        return this.runScoped(this.objectConstruction, this.constructObject, value);");
+        source.line("    }").line();
+
+        source.line("    @Override");
+        source.line("    public %s from(final JsonElement value)", value);
+        source.line("        throws ScopedException");
+        source.line("    {");
+        source.line("        final JsonObject object =");
+        source.line("            this.runScoped(this.objectResolution, JsonElement::getAsJsonObject, value);");
+        source.line();
+        source.line("        return this.runScoped(this.valueConstruction, this.constructValue, object);");
+        source.line("    }").line();
+
+        source.line("    @Override");
+        source.line("    public %s read(final JsonReader reader)", value);
+        source.line("        throws ScopedException");
+        source.line("    {");
+        source.line("        return this.runScoped(this.valueConstruction, this.readValue, reader);");
+        source.line("    }").line();
+
+        source.line("    @Override");
+        source.line("    public void write(final JsonWriter writer, final %s value)", value);
+        source.line("        throws ScopedException");
+        source.line("    {");
+        source.line("        this.runScoped(this.objectConstruction, this.writeObject, writer, value);");
+        source.line("    }").line();
+
+        source.line("    private JsonObject constructObject(final %s value)", value);
+        source.line("        throws ScopedException");
+        source.line("    {");
+        source.line("        final JsonObject object = new JsonObject();").line();
+
+        for (final @NotNull Member member : resolved) {
+            final @NotNull String converter = member.codec().converter();
+            final @NotNull String name = member.name();
+
+            source.line("        try {");
+            source.line("            object.add(\"%s\", %s.into(value.%s));", name, converter, member.access());
+            source.line("        } catch (final RuntimeException exception) {");
+            source.line("            throw this.scopedFailure(this.intoMember, exception, \"%s\");", name);
+            source.line("        }").line();
+        }
+
+        source.line("        return object;");
+        source.line("    }").line();
+
+        source.line("    private %s constructValue(final JsonObject object)", value);
+        source.line("        throws ScopedException");
+        source.line("    {");
+
+        for (int index = 0; index < resolved.size(); index += 1) {
+            final @NotNull Member member = resolved.get(index);
+            final @NotNull Codec codec = member.codec();
+
+            source.line("        final JsonElement element%d = object.get(\"%s\");", index, member.name());
+            source.line("        final %s value%d;", member.type(), index).line();
+            source.line("        if (element%d == null) throw this.missingMember(\"%s\");", index, member.name());
+            source.line();
+            source.line("        try {");
+            source.line("            value%d = %s.%s(element%d);", index, codec.converter(), codec.fromMethod(), index);
+            source.line("        } catch (final RuntimeException exception) {");
+            source.line("            throw this.scopedFailure(this.fromMember, exception, \"%s\");", member.name());
+            source.line("        }").line();
+        }
+
+        source.line("        return new %s(%s);", value, JsonConverterProcessor.values(resolved.size()));
+        source.line("    }").line();
+
+        source.line("    private void writeObject(final JsonWriter writer, final %s value)", value);
+        source.line("        throws IOException, ScopedException");
+        source.line("    {");
+        source.line("        writer.beginObject();").line();
+
+        for (final @NotNull Member member : resolved) {
+            source.line("        writer.name(\"%s\");", member.name()).line();
+            source.line("        try {");
+            source.line("            %s.write(writer, value.%s);", member.codec().converter(), member.access());
+            source.line("        } catch (final RuntimeException exception) {");
+            source.line("            throw this.scopedFailure(this.intoMember, exception, \"%s\");", member.name());
+            source.line("        }").line();
+        }
+
+        source.line("        writer.endObject();");
+        source.line("    }").line();
+
+        source.line("    private %s readValue(final JsonReader reader)", value);
+        source.line("        throws IOException, ScopedException");
+        source.line("    {");
+
+        for (int index = 0; index < resolved.size(); index += 1) {
+            final @NotNull Member member = resolved.get(index);
+
+            source.line("        %s value%d = %s;", member.type(), index, member.codec().defaultValue());
+            source.line("        boolean present%d = false;", index);
+        }
+
+        source.line().line("        reader.beginObject();").line();
+        source.line("        while (reader.hasNext()) {");
+        source.line("            switch (reader.nextName()) {");
+
+        for (int index = 0; index < resolved.size(); index += 1) {
+            final @NotNull Codec codec = resolved.get(index).codec();
+            final @NotNull String converter = codec.converter();
+            final @NotNull String name = resolved.get(index).name();
+
+            source.line("                case \"%s\" -> {", name);
+            source.line("                    try {");
+            source.line("                        value%d = %s.%s(reader);", index, converter, codec.readMethod());
+            source.line("                    } catch (final RuntimeException exception) {");
+            source.line("                        throw this.scopedFailure(this.fromMember, exception, \"%s\");", name);
+            source.line("                    }").line();
+            source.line("                    present%d = true;", index);
+            source.line("                }");
+        }
+
+        source.line("                default -> reader.skipValue();");
+        source.line("            }");
+        source.line("        }").line();
+        source.line("        reader.endObject();").line();
+
+        for (int index = 0; index < resolved.size(); index += 1) {
+            final @NotNull Member member = resolved.get(index);
+
+            source.line("        if (!present%d) throw this.missingMember(\"%s\");", index, member.name());
+        }
+
+        source.line().line("        return new %s(%s);", value, JsonConverterProcessor.values(resolved.size()));
+        source.line("    }").line();
+
+        source.line("    private ScopedException missingMember(final String name) {");
+        source.line("        final String message = \"Missing member '\" + name + \"'\";");
+        source.line();
+        source.line("        return this.scopedFailure(this.fromMember, new NoSuchElementException(message), name);");
+        source.line("    }").line();
+        source.line("}");
+
+        final @NotNull String qualifiedName = this.converterName(type);
+
+        final @NotNull JavaFileObject file = this.processingEnv.getFiler().createSourceFile(qualifiedName, type);
+
+        try (final @NotNull Writer writer = file.openWriter()) {
+            writer.write(source.toString());
+        }
+    }
+
+    /**
+     * Returns the given members with each converter that is derived from other converters replaced by a static field,
+     * adding the distinct fields to the given map.
+     * <p>
+     * Converters that are already constants, such as {@code JsonConverter.STRING}, are left in place.
+     *
+     * @param owner The simple name of the generated class.
+     * @param members The members.
+     * @param fields The map of field names to the first member that uses each field.
+     *
+     * @return The members that refer to the fields.
+     *
+     * @since 0.1.0
+     */
+    private static @NotNull List<@NotNull Member> resolveConverters(
+        final @NotNull String owner,
+        final @NotNull List<@NotNull Member> members,
+        final @NotNull Map<@NotNull String, @NotNull Member> fields
+    )
+    {
+        final @NotNull Map<@NotNull String, @NotNull String> names = new HashMap<>();
+        final @NotNull List<@NotNull Member> resolved = new ArrayList<>(members.size());
+
+        for (final @NotNull Member member : members) {
+            final @NotNull Codec codec = member.codec();
+
+            if (codec.converter().indexOf('(') < 0) {
+                resolved.add(member);
+
+                continue;
+            }
+
+            final @NotNull String name = names.computeIfAbsent(codec.converter(), key -> "CONVERTER_" + names.size());
+
+            fields.putIfAbsent(name, member);
+
+            final @NotNull String reference = owner + "." + name;
+            final @NotNull Codec field =
+                new Codec(reference, codec.fromMethod(), codec.readMethod(), codec.defaultValue());
+
+            resolved.add(new Member(member.name(), member.access(), member.type(), field));
+        }
+
+        return resolved;
+    }
+
+    /**
+     * Returns a comma-separated list of the generated value variables.
+     *
+     * @param count The number of variables.
+     *
+     * @return The list of variables.
+     *
+     * @since 0.1.0
+     */
+    private static @NotNull String values(final int count) {
+        final @NotNull StringBuilder builder = new StringBuilder();
+
+        for (int index = 0; index < count; index += 1) {
+            if (index > 0) builder.append(", ");
+
+            builder.append("value").append(index);
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * A member of a type that is converted by a generated converter.
+     *
+     * @param name The member's name, used as its key within JSON objects.
+     * @param access The expression that reads the member from a value.
+     * @param type The member's type.
+     * @param codec The member's codec.
+     *
+     * @author Jaxydog
+     * @since 0.1.0
+     */
+    private record Member(
+        @NotNull String name,
+        @NotNull String access,
+        @NotNull TypeMirror type,
+        @NotNull Codec codec
+    ) { }
+
+    /**
+     * Describes how values of a type are converted by generated code.
+     *
+     * @param converter An expression that evaluates to the type's converter.
+     * @param fromMethod The converter method that converts from a {@code JsonElement}.
+     * @param readMethod The converter method that reads from a {@code JsonReader}.
+     * @param defaultValue The value that a variable of the type is initialized with.
+     *
+     * @author Jaxydog
+     * @since 0.1.0
+     */
+    private record Codec(
+        @NotNull String converter,
+        @NotNull String fromMethod,
+        @NotNull String readMethod,
+        @NotNull String defaultValue
+    ) { }
+
+    /**
+     * Builds a source file line by line.
+     *
+     * @author Jaxydog
+     * @since 0.1.0
+     */
+    private static final class SourceBuilder {
+
+        /**
+         * The source file's contents.
+         *
+         * @since 0.1.0
+         */
+        private final @NotNull StringBuilder builder = new StringBuilder();
+
+        /**
+         * Creates a new {@link SourceBuilder}.
+         *
+         * @since 0.1.0
+         */
+        private SourceBuilder() { }
+
+        /**
+         * Appends an empty line.
+         *
+         * @return This builder.
+         *
+         * @since 0.1.0
+         */
+        private @NotNull SourceBuilder line() {
+            this.builder.append('\n');
+
+            return this;
+        }
+
+        /**
+         * Appends a formatted line.
+         *
+         * @param format The line's format string.
+         * @param arguments The format string's arguments.
+         *
+         * @return This builder.
+         *
+         * @since 0.1.0
+         */
+        private @NotNull SourceBuilder line(final @NotNull String format, final @NotNull Object... arguments) {
+            this.builder.append(format.formatted(arguments)).append('\n');
+
+            return this;
+        }
+
+        @Override
+        public @NotNull String toString() {
+            return this.builder.toString();
+        }
+
+    }
+
+}
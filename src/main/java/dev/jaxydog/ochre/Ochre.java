@@ -14,6 +14,7 @@
 
 package dev.jaxydog.ochre;
 
+import dev.jaxydog.ochre.profiling.FlightRecorderSupport;
 import net.fabricmc.api.ModInitializer;
 import net.fabricmc.loader.api.FabricLoader;
 import net.fabricmc.loader.api.ModContainer;
@@ -54,6 +55,8 @@ public final class Ochre implements ModInitializer {
         final String name = mod.getMetadata().getName();
         final String version = mod.getMetadata().getVersion().getFriendlyString();
 
+        FlightRecorderSupport.register();
+
         Ochre.LOGGER.info("{} {} loaded!", name, version);
     }
 
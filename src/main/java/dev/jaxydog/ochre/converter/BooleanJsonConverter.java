@@ -0,0 +1,194 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2025 Jaxydog
+ *
+ * This file is part of Ochre.
+ *
+ * Ochre is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Ochre is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Ochre. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.ochre.converter;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import dev.jaxydog.ochre.utility.Result;
+import dev.jaxydog.ochre.utility.ScopedException;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+/**
+ * A {@link JsonConverter} for boolean values that provides methods for converting unboxed values.
+ * <p>
+ * Conversions do not enter a scope unless they fail, as they cannot contain any nested conversions.
+ *
+ * @author Jaxydog
+ * @since 0.1.0
+ */
+public final class BooleanJsonConverter
+    extends JsonConverter<Boolean>
+{
+
+    /**
+     * The shared element for {@code true}.
+     *
+     * @since 0.1.0
+     */
+    private static final @NotNull JsonPrimitive TRUE = new JsonPrimitive(true);
+    /**
+     * The shared element for {@code false}.
+     *
+     * @since 0.1.0
+     */
+    private static final @NotNull JsonPrimitive FALSE = new JsonPrimitive(false);
+
+    /**
+     * The scope used while converting into a {@link JsonElement}.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull Scope intoScope = this.createScope(Method.INTO.context());
+    /**
+     * The scope used while converting from a {@link JsonElement}.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull Scope fromScope = this.createScope(Method.FROM.context());
+
+    /**
+     * Creates a new {@link BooleanJsonConverter}.
+     *
+     * @since 0.1.0
+     */
+    BooleanJsonConverter() { }
+
+    /**
+     * Converts from a boolean into a {@link JsonElement}.
+     *
+     * @param value The value to convert.
+     *
+     * @return The converted value.
+     *
+     * @since 0.1.0
+     */
+    public @NotNull JsonElement into(final boolean value) {
+        return value ? BooleanJsonConverter.TRUE : BooleanJsonConverter.FALSE;
+    }
+
+    /**
+     * Converts from a {@link JsonElement} into a boolean.
+     *
+     * @param value The value to convert.
+     *
+     * @return The converted value.
+     *
+     * @throws ScopedException If the conversion fails.
+     * @since 0.1.0
+     */
+    public boolean booleanFrom(final @NotNull JsonElement value)
+        throws @NotNull ScopedException
+    {
+        try {
+            return value.getAsBoolean();
+        } catch (final @NotNull RuntimeException exception) {
+            throw this.scopedFailure(this.fromScope, exception);
+        }
+    }
+
+    /**
+     * Reads a boolean from the given reader.
+     *
+     * @param reader The reader.
+     *
+     * @return The boolean.
+     *
+     * @throws ScopedException If the value could not be read.
+     * @since 0.1.0
+     */
+    public boolean readBoolean(final @NotNull JsonReader reader)
+        throws @NotNull ScopedException
+    {
+        try {
+            if (reader.peek() == JsonToken.BOOLEAN) return reader.nextBoolean();
+
+            return Boolean.parseBoolean(reader.nextString());
+        } catch (final @NotNull IOException | RuntimeException exception) {
+            throw this.scopedFailure(this.fromScope, exception);
+        }
+    }
+
+    /**
+     * Writes the given boolean to the given writer.
+     *
+     * @param writer The writer.
+     * @param value The value to write.
+     *
+     * @throws ScopedException If the value could not be written.
+     * @since 0.1.0
+     */
+    public void write(final @NotNull JsonWriter writer, final boolean value)
+        throws @NotNull ScopedException
+    {
+        try {
+            writer.value(value);
+        } catch (final @NotNull IOException | RuntimeException exception) {
+            throw this.scopedFailure(this.intoScope, exception);
+        }
+    }
+
+    @Override
+    public @NotNull JsonElement into(final @NotNull Boolean value)
+        throws @NotNull ScopedException
+    {
+        return this.into(value.booleanValue());
+    }
+
+    @Override
+    public @NotNull Boolean from(final @NotNull JsonElement value)
+        throws @NotNull ScopedException
+    {
+        return this.booleanFrom(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Primitives are converted without throwing, as are objects and nulls, which always fail. Arrays are converted
+     * using {@link #from(JsonElement)}.
+     *
+     * @since 0.1.0
+     */
+    @Override
+    public @NotNull Result<@NotNull Boolean> tryFrom(final @NotNull JsonElement value) {
+        if (value instanceof final @NotNull JsonPrimitive primitive) {
+            return Result.success(primitive.getAsBoolean());
+        } else if (value.isJsonObject() || value.isJsonNull()) {
+            return this.failedResult(this.fromScope, JsonConverter.unsupported(value));
+        }
+
+        return super.tryFrom(value);
+    }
+
+    @Override
+    public @NotNull Boolean read(final @NotNull JsonReader reader)
+        throws @NotNull ScopedException
+    {
+        return this.readBoolean(reader);
+    }
+
+    @Override
+    public void write(final @NotNull JsonWriter writer, final @NotNull Boolean value)
+        throws @NotNull ScopedException
+    {
+        this.write(writer, value.booleanValue());
+    }
+
+}
@@ -0,0 +1,376 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2025 Jaxydog
+ *
+ * This file is part of Ochre.
+ *
+ * Ochre is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Ochre is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Ochre. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.ochre.converter;
+
+import com.google.gson.JsonElement;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import dev.jaxydog.ochre.utility.FallibleFunction;
+import dev.jaxydog.ochre.utility.Report;
+import dev.jaxydog.ochre.utility.Result;
+import dev.jaxydog.ochre.utility.ScopedException;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * A {@link JsonConverter} that caches the values converted from JSON by another converter, keyed by the structure of
+ * the {@link JsonElement} that they were converted from.
+ * <p>
+ * Elements that are equal to a previously converted element, even if they are separate instances, are converted by a
+ * single table lookup. The cache holds a bounded number of entries and evicts the least recently used entry when it
+ * is full. Keys are copied when they are added, so later changes to an element do not affect the cache.
+ * <p>
+ * Cached values are shared between every conversion that produces them, and must therefore not be modified. Failed
+ * conversions are not cached, and conversions into JSON and streaming conversions are not cached at all. The cache is
+ * bypassed while a {@link dev.jaxydog.ochre.utility.Budget} is being enforced.
+ *
+ * @param <T> The type being converted.
+ *
+ * @author Jaxydog
+ * @since 0.1.0
+ */
+public final class CachingJsonConverter<T>
+    extends JsonConverter<T>
+{
+
+    /**
+     * The scope used while converting into JSON.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull Scope intoScope = this.createScope(Method.INTO.context("cached conversion"));
+    /**
+     * The scope used while converting from JSON.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull Scope fromScope = this.createScope(Method.FROM.context("cached conversion"));
+
+    /**
+     * The wrapped converter.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull JsonConverter<T> converter;
+    /**
+     * Converts a value into JSON using the wrapped converter.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull FallibleFunction<@NotNull T, @NotNull JsonElement, ScopedException> converterInto;
+    /**
+     * Converts a value from JSON using the wrapped converter.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull FallibleFunction<@NotNull JsonElement, @NotNull T, ScopedException> converterFrom;
+    /**
+     * This converter's shape.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull Shape shape;
+    /**
+     * The maximum number of cached values.
+     *
+     * @since 0.1.0
+     */
+    private final int capacity;
+    /**
+     * The cached values, ordered from least to most recently used.
+     * <p>
+     * This map also guards the cache's statistics.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull Object2ObjectLinkedOpenHashMap<Key, T> entries;
+
+    /**
+     * The number of conversions that were answered by the cache.
+     *
+     * @since 0.1.0
+     */
+    private long hits;
+    /**
+     * The number of conversions that were not answered by the cache.
+     *
+     * @since 0.1.0
+     */
+    private long misses;
+    /**
+     * The number of values that were evicted from the cache.
+     *
+     * @since 0.1.0
+     */
+    private long evictions;
+
+    /**
+     * Creates a new {@link CachingJsonConverter}.
+     *
+     * @param converter The wrapped converter.
+     * @param capacity The maximum number of cached values.
+     *
+     * @throws IllegalArgumentException If the capacity is not positive.
+     * @since 0.1.0
+     */
+    CachingJsonConverter(final @NotNull JsonConverter<T> converter, final int capacity)
+        throws @NotNull IllegalArgumentException
+    {
+        if (capacity <= 0) throw new IllegalArgumentException("The capacity must be positive.");
+
+        this.converter = converter;
+        this.converterInto = converter::into;
+        this.converterFrom = converter::from;
+        this.shape = Shape.of(Shape.Kind.CACHED, converter);
+        this.capacity = capacity;
+        this.entries = new Object2ObjectLinkedOpenHashMap<>(Math.min(capacity, 1024));
+    }
+
+    @Override
+    public @NotNull Shape shape() {
+        return this.shape;
+    }
+
+    /**
+     * Returns the maximum number of values that this converter caches.
+     *
+     * @return The capacity.
+     *
+     * @since 0.1.0
+     */
+    public int capacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Returns a snapshot of this converter's cache statistics.
+     *
+     * @return The statistics.
+     *
+     * @since 0.1.0
+     */
+    public @NotNull Statistics statistics() {
+        synchronized (this.entries) {
+            return new Statistics(this.hits, this.misses, this.evictions, this.entries.size());
+        }
+    }
+
+    /**
+     * Removes every cached value, without resetting the cache's statistics.
+     *
+     * @since 0.1.0
+     */
+    public void clear() {
+        synchronized (this.entries) {
+            this.entries.clear();
+        }
+    }
+
+    @Override
+    public @NotNull JsonElement into(final @NotNull T value)
+        throws @NotNull ScopedException
+    {
+        return this.runScoped(this.intoScope, this.converterInto, value);
+    }
+
+    @Override
+    public @NotNull T from(final @NotNull JsonElement value)
+        throws @NotNull ScopedException
+    {
+        if (this.isEnforcingBudget()) return this.runScoped(this.fromScope, this.converterFrom, value);
+
+        final @NotNull Key key = new Key(value);
+        final @Nullable T cached = this.lookup(key);
+
+        if (Objects.nonNull(cached)) return cached;
+
+        final @NotNull T converted = this.runScoped(this.fromScope, this.converterFrom, value);
+
+        this.store(key, converted);
+
+        return converted;
+    }
+
+    @Override
+    public @NotNull T read(final @NotNull JsonReader reader)
+        throws @NotNull ScopedException
+    {
+        return this.converter.read(reader);
+    }
+
+    @Override
+    public void write(final @NotNull JsonWriter writer, final @NotNull T value)
+        throws @NotNull ScopedException
+    {
+        this.converter.write(writer, value);
+    }
+
+    @Override
+    public @NotNull Result<@NotNull JsonElement> tryInto(final @NotNull T value) {
+        return this.converter.tryInto(value);
+    }
+
+    @Override
+    public @NotNull Result<@NotNull T> tryFrom(final @NotNull JsonElement value) {
+        if (this.isEnforcingBudget()) return this.converter.tryFrom(value);
+
+        final @NotNull Key key = new Key(value);
+        final @Nullable T cached = this.lookup(key);
+
+        if (Objects.nonNull(cached)) return Result.success(cached);
+
+        final @NotNull Result<@NotNull T> result = this.converter.tryFrom(value);
+
+        if (result instanceof final Result.Success<T> success) this.store(key, success.value());
+
+        return result;
+    }
+
+    @Override
+    public @NotNull Report<@NotNull T> tryFromAll(final @NotNull JsonElement value) {
+        if (this.isEnforcingBudget()) return this.converter.tryFromAll(value);
+
+        final @NotNull Key key = new Key(value);
+        final @Nullable T cached = this.lookup(key);
+
+        if (Objects.nonNull(cached)) return Report.of(Result.success(cached));
+
+        final @NotNull Report<@NotNull T> report = this.converter.tryFromAll(value);
+
+        if (report.isComplete() && Objects.nonNull(report.value())) this.store(key, report.value());
+
+        return report;
+    }
+
+    /**
+     * Returns the value cached for the given key, marking it as the most recently used value.
+     *
+     * @param key The key.
+     *
+     * @return The cached value, or {@code null} if no value is cached.
+     *
+     * @since 0.1.0
+     */
+    private @Nullable T lookup(final @NotNull Key key) {
+        synchronized (this.entries) {
+            final @Nullable T value = this.entries.getAndMoveToLast(key);
+
+            if (Objects.isNull(value)) {
+                this.misses += 1;
+            } else {
+                this.hits += 1;
+            }
+
+            return value;
+        }
+    }
+
+    /**
+     * Caches the given value, evicting the least recently used value if the cache is full.
+     * <p>
+     * The key's element is copied before it is added.
+     *
+     * @param key The key.
+     * @param value The value.
+     *
+     * @since 0.1.0
+     */
+    private void store(final @NotNull Key key, final @NotNull T value) {
+        final @NotNull Key copy = new Key(key.element.deepCopy(), key.hash);
+
+        synchronized (this.entries) {
+            // Another thread may have converted the same element while this one was converting it.
+            if (Objects.nonNull(this.entries.putAndMoveToLast(copy, value))) return;
+
+            if (this.entries.size() > this.capacity) {
+                this.entries.removeFirst();
+
+                this.evictions += 1;
+            }
+        }
+    }
+
+    /**
+     * A snapshot of a {@link CachingJsonConverter}'s cache statistics.
+     *
+     * @param hits The number of conversions that were answered by the cache.
+     * @param misses The number of conversions that were not answered by the cache.
+     * @param evictions The number of values that were evicted from the cache.
+     * @param size The number of values that were cached.
+     *
+     * @author Jaxydog
+     * @since 0.1.0
+     */
+    public record Statistics(long hits, long misses, long evictions, int size) {
+
+        /**
+         * Returns the fraction of conversions that were answered by the cache, or {@code 0} if there were none.
+         *
+         * @return The hit rate.
+         *
+         * @since 0.1.0
+         */
+        public double hitRate() {
+            final long requests = this.hits + this.misses;
+
+            return requests == 0 ? 0D : (double) this.hits / requests;
+        }
+
+    }
+
+    /**
+     * A cache key, which compares {@link JsonElement} values structurally and remembers their hash codes.
+     * <p>
+     * Computing an element's hash code visits its entire tree, so it is computed only once per key. See
+     * {@link JsonConverter#equivalent(JsonElement, JsonElement)} for how elements are compared.
+     *
+     * @param element The element.
+     * @param hash The element's hash code.
+     *
+     * @author Jaxydog
+     * @since 0.1.0
+     */
+    private record Key(@NotNull JsonElement element, int hash) {
+
+        /**
+         * Creates a new {@link Key}.
+         *
+         * @param element The element.
+         *
+         * @since 0.1.0
+         */
+        private Key(final @NotNull JsonElement element) {
+            this(element, JsonConverter.hash(element));
+        }
+
+        @Override
+        public boolean equals(final @Nullable Object object) {
+            if (this == object) return true;
+            if (!(object instanceof final @NotNull Key other) || this.hash != other.hash) return false;
+
+            return JsonConverter.equivalent(this.element, other.element);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+    }
+
+}
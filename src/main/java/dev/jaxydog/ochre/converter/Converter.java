@@ -15,11 +15,15 @@
 package dev.jaxydog.ochre.converter;
 
 import dev.jaxydog.ochre.utility.FallibleFunction;
+import dev.jaxydog.ochre.utility.Report;
+import dev.jaxydog.ochre.utility.Result;
 import dev.jaxydog.ochre.utility.Scoped;
 import dev.jaxydog.ochre.utility.ScopedException;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -43,6 +47,17 @@ public abstract class Converter<T, U>
      */
     protected Converter() { }
 
+    /**
+     * Creates a new {@link Converter}.
+     *
+     * @param omitStackTraces Whether exceptions thrown by this converter omit their stack traces.
+     *
+     * @since 0.1.0
+     */
+    protected Converter(final boolean omitStackTraces) {
+        super(omitStackTraces);
+    }
+
     /**
      * Creates a new {@link Converter} using the given methods as conversion functions.
      *
@@ -62,18 +77,21 @@ public abstract class Converter<T, U>
     {
         return new Converter<>() {
 
+            private final @NotNull Scope intoScope = this.createScope(Method.INTO.context("custom implementation"));
+            private final @NotNull Scope fromScope = this.createScope(Method.FROM.context("custom implementation"));
+
             @Override
             public @NotNull U into(@NotNull T value)
                 throws @NotNull ScopedException
             {
-                return this.runScoped(Method.INTO.context("custom implementation"), () -> into.apply(value));
+                return this.runScoped(this.intoScope, into, value);
             }
 
             @Override
             public @NotNull T from(@NotNull U value)
                 throws @NotNull ScopedException
             {
-                return this.runScoped(Method.FROM.context("custom implementation"), () -> from.apply(value));
+                return this.runScoped(this.fromScope, from, value);
             }
 
         };
@@ -105,8 +123,349 @@ public abstract class Converter<T, U>
     public abstract @NotNull T from(final @NotNull U value)
         throws @NotNull ScopedException;
 
+    /**
+     * Converts from a value of type {@code T} into one of type {@code U}, returning any failure rather than throwing
+     * it.
+     * <p>
+     * By default, this runs {@link #into(Object)} and catches its failure, which omits its stack trace. Converters that
+     * can detect failures without throwing, such as the primitive JSON converters and their lists and maps, override
+     * this to avoid throwing entirely.
+     *
+     * @param value The value to convert.
+     *
+     * @return The result of the conversion.
+     *
+     * @since 0.1.0
+     */
+    public @NotNull Result<@NotNull U> tryInto(final @NotNull T value) {
+        return this.attempt(this::into, value);
+    }
+
+    /**
+     * Converts from a value of type {@code U} into one of type {@code T}, returning any failure rather than throwing
+     * it.
+     * <p>
+     * By default, this runs {@link #from(Object)} and catches its failure, which omits its stack trace. Converters that
+     * can detect failures without throwing, such as the primitive JSON converters and their lists and maps, override
+     * this to avoid throwing entirely.
+     *
+     * @param value The value to convert.
+     *
+     * @return The result of the conversion.
+     *
+     * @since 0.1.0
+     */
+    public @NotNull Result<@NotNull T> tryFrom(final @NotNull U value) {
+        return this.attempt(this::from, value);
+    }
+
+    /**
+     * Converts from a value of type {@code U} into one of type {@code T}, continuing past failures to report every one
+     * of them.
+     * <p>
+     * By default, this behaves like {@link #tryFrom(Object)} and reports at most one failure. Converters for values
+     * made of independent parts, such as JSON lists, maps, and records, override this to convert every part even when
+     * others fail. Collections omit their failed elements from the reported value, while other values are only
+     * produced if none of their parts failed.
+     *
+     * @param value The value to convert.
+     *
+     * @return A report of the conversion.
+     *
+     * @since 0.1.0
+     */
+    public @NotNull Report<@NotNull T> tryFromAll(final @NotNull U value) {
+        return Report.of(this.tryFrom(value));
+    }
+
+    /**
+     * Returns the steps used when composing this converter's {@link #into(Object)} method with another converter.
+     *
+     * @return The steps, in the order that they are run.
+     *
+     * @since 0.1.0
+     */
+    @NotNull List<@NotNull Step> intoSteps() {
+        final @NotNull FallibleFunction<@NotNull T, @NotNull U, ScopedException> into = this::into;
+
+        return List.of(Step.conversion(into, this::tryInto, null));
+    }
+
+    /**
+     * Returns the steps used when composing this converter's {@link #from(Object)} method with another converter.
+     *
+     * @return The steps, in the order that they are run.
+     *
+     * @since 0.1.0
+     */
+    @NotNull List<@NotNull Step> fromSteps() {
+        final @NotNull FallibleFunction<@NotNull U, @NotNull T, ScopedException> from = this::from;
+
+        return List.of(Step.conversion(from, this::tryFrom, this::tryFromAll));
+    }
+
+    /**
+     * Creates a scope for each of the given steps of a fused conversion.
+     *
+     * @param method The method that runs the steps.
+     * @param steps The steps.
+     *
+     * @return The scopes, in the same order as the steps.
+     *
+     * @since 0.1.0
+     */
+    final @NotNull List<@NotNull Scope> createStepScopes(
+        final @NotNull Method method,
+        final @NotNull List<@NotNull Step> steps
+    )
+    {
+        final @NotNull List<@NotNull Scope> scopes = new ArrayList<>(steps.size());
+
+        for (int index = 0; index < steps.size(); index += 1) {
+            scopes.add(this.createScope(Step.context(method, steps.get(index).action(), index)));
+        }
+
+        return scopes;
+    }
+
+    /**
+     * Runs the given steps of a fused conversion one after another, recording the scope of any step that fails.
+     *
+     * @param steps The steps.
+     * @param scopes The scope of each step.
+     * @param value The value to convert.
+     *
+     * @return The converted value.
+     *
+     * @throws ScopedException If a step fails.
+     * @since 0.1.0
+     */
+    final @NotNull Object runSteps(
+        final @NotNull List<@NotNull Step> steps,
+        final @NotNull List<@NotNull Scope> scopes,
+        final @NotNull Object value
+    )
+        throws @NotNull ScopedException
+    {
+        @NotNull Object current = value;
+
+        for (int index = 0; index < steps.size(); index += 1) {
+            try {
+                current = steps.get(index).function().apply(current);
+            } catch (final @NotNull Exception exception) {
+                throw this.stepFailure(scopes.get(index), exception);
+            }
+        }
+
+        return current;
+    }
+
+    /**
+     * Returns the exception that would be thrown if a step of a fused conversion run within the given scope threw the
+     * given exception.
+     *
+     * @param scope The scope of the step.
+     * @param exception The exception that was thrown.
+     *
+     * @return A {@link ScopedException} to be thrown by the caller.
+     *
+     * @throws ScopedException If the scope cannot be entered.
+     * @since 0.1.0
+     */
+    final @NotNull ScopedException stepFailure(final @NotNull Scope scope, final @NotNull Exception exception)
+        throws @NotNull ScopedException
+    {
+        if (exception instanceof final @NotNull ScopedException scopedException) {
+            return this.enclose(scope, scopedException);
+        }
+
+        return this.scopedFailure(scope, exception);
+    }
+
+    /**
+     * Runs the given steps of a fused conversion one after another within the given scope, starting from the step at
+     * the given index, and returns any failure rather than throwing it.
+     * <p>
+     * Steps that run a converter use the converter's own non-throwing conversion, while mapping functions are run
+     * directly. The returned failure matches the one that {@link #runSteps(List, List, Object)} would throw within the
+     * given scope.
+     *
+     * @param scope The scope of the fused conversion.
+     * @param steps The steps.
+     * @param scopes The scope of each step.
+     * @param start The index of the first step to run.
+     * @param value The value to convert.
+     *
+     * @param <R> The type of the converted value.
+     *
+     * @return The result of the conversion.
+     *
+     * @since 0.1.0
+     */
+    @SuppressWarnings("unchecked")
+    final <R> @NotNull Result<R> attemptSteps(
+        final @NotNull Scope scope,
+        final @NotNull List<@NotNull Step> steps,
+        final @NotNull List<@NotNull Scope> scopes,
+        final int start,
+        final @NotNull Object value
+    )
+    {
+        @NotNull Object current = value;
+
+        for (int index = start; index < steps.size(); index += 1) {
+            final @NotNull Result<Object> result = this.attemptStep(steps.get(index), scopes.get(index), current);
+
+            if (result instanceof final Result.Failure<Object> failure) {
+                return Result.failure(this.enclose(scope, failure.error()));
+            }
+
+            current = result.orThrow();
+        }
+
+        return Result.success((R) current);
+    }
+
+    /**
+     * Runs the given steps of a fused conversion one after another within the given scope, continuing past the
+     * failures of the first step to report every one of them.
+     * <p>
+     * If the first step runs a converter that reports every failure, the remaining steps are run on the value that it
+     * produced, even if some of its parts failed. Otherwise, this reports at most one failure, as
+     * {@link #attemptSteps(Scope, List, List, int, Object)} does.
+     *
+     * @param scope The scope of the fused conversion.
+     * @param steps The steps.
+     * @param scopes The scope of each step.
+     * @param value The value to convert.
+     * @param <R> The type of the converted value.
+     *
+     * @return A report of the conversion.
+     *
+     * @since 0.1.0
+     */
+    final <R> @NotNull Report<R> reportSteps(
+        final @NotNull Scope scope,
+        final @NotNull List<@NotNull Step> steps,
+        final @NotNull List<@NotNull Scope> scopes,
+        final @NotNull Object value
+    )
+    {
+        final @Nullable Function<Object, Report<Object>> attemptAll =
+            steps.isEmpty() ? null : steps.getFirst().attemptAll();
+
+        if (Objects.isNull(attemptAll)) return Report.of(this.attemptSteps(scope, steps, scopes, 0, value));
+
+        final @NotNull Report<Object> head = attemptAll.apply(value);
+        final @NotNull List<@NotNull ScopedException> errors = new ArrayList<>(head.errors().size() + 1);
+
+        for (final @NotNull ScopedException error : head.errors()) {
+            errors.add(this.enclose(scope, this.enclose(scopes.getFirst(), error)));
+        }
+
+        if (Objects.isNull(head.value())) return new Report<>(null, errors);
+
+        final @NotNull Result<R> rest = this.attemptSteps(scope, steps, scopes, 1, head.value());
+
+        if (rest instanceof final Result.Failure<R> failure) {
+            errors.add(failure.error());
+
+            return new Report<>(null, errors);
+        }
+
+        return new Report<>(rest.orThrow(), errors);
+    }
+
+    /**
+     * Runs the given step of a fused conversion, returning any failure rather than throwing it.
+     *
+     * @param step The step.
+     * @param scope The scope of the step.
+     * @param value The value to convert.
+     *
+     * @return The result of the step.
+     *
+     * @since 0.1.0
+     */
+    private @NotNull Result<Object> attemptStep(
+        final @NotNull Step step,
+        final @NotNull Scope scope,
+        final @NotNull Object value
+    )
+    {
+        final @Nullable Function<Object, Result<Object>> attempt = step.attempt();
+
+        if (Objects.nonNull(attempt)) {
+            final @NotNull Result<Object> result = attempt.apply(value);
+
+            if (result instanceof final Result.Failure<Object> failure) {
+                return Result.failure(this.enclose(scope, failure.error()));
+            }
+
+            return result;
+        }
+
+        try {
+            return Result.success(step.function().apply(value));
+        } catch (final @NotNull Exception exception) {
+            return this.failedResult(scope, exception);
+        }
+    }
+
+    /**
+     * Returns the shape of this converter, describing how it was built from other converters.
+     * <p>
+     * Converters that are not built from other converters, such as those created by
+     * {@link #custom(FallibleFunction, FallibleFunction)}, have the shape {@link Shape#LEAF}.
+     *
+     * @return The shape.
+     *
+     * @since 0.1.0
+     */
+    public @NotNull Shape shape() {
+        return Shape.LEAF;
+    }
+
+    /**
+     * Returns a new {@link Converter} that converts values using this converter and then the given converter.
+     * <p>
+     * Chains of composed and mapped converters are flattened into a single converter that records which step failed.
+     *
+     * @param next The converter to run after this converter.
+     * @param <V> The new output type.
+     *
+     * @return A new {@link Converter}.
+     *
+     * @since 0.1.0
+     */
+    public final <V> @NotNull Converter<T, V> andThen(final @NotNull Converter<U, V> next) {
+        return new FusedConverter<>(
+            Step.concat(this.intoSteps(), next.intoSteps()),
+            Step.concat(next.fromSteps(), this.fromSteps()),
+            Shape.composition(this, next)
+        );
+    }
+
+    /**
+     * Returns a new {@link Converter} that converts values using the given converter and then this converter.
+     * <p>
+     * Chains of composed and mapped converters are flattened into a single converter that records which step failed.
+     *
+     * @param previous The converter to run before this converter.
+     * @param <S> The new input type.
+     *
+     * @return A new {@link Converter}.
+     *
+     * @since 0.1.0
+     */
+    public <S> @NotNull Converter<S, U> compose(final @NotNull Converter<S, T> previous) {
+        return previous.andThen(this);
+    }
+
     /**
      * Returns a new {@link Converter} that wraps this value, mapping its input to another type.
+     * <p>
+     * Chains of composed and mapped converters are flattened into a single converter that records which step failed.
      *
      * @param into Converts a value of type {@code T} to a value of type {@code V}.
      * @param from Converts a value of type {@code V} to a value of type {@code T}.
@@ -116,76 +475,124 @@ public abstract class Converter<T, U>
      *
      * @since 0.1.0
      */
-    public final <V> @NotNull Converter<V, U> mapInput(
+    public <V> @NotNull Converter<V, U> mapInput(
         final @NotNull Function<@NotNull T, @NotNull V> into,
         final @NotNull Function<@NotNull V, @NotNull T> from
     )
     {
-        final @NotNull Function<@NotNull T, @NotNull U> thisInto = this::into;
-        final @NotNull Function<@NotNull U, @NotNull T> thisFrom = this::from;
+        return new FusedConverter<>(
+            Step.concat(List.of(Step.mapping(from)), this.intoSteps()),
+            Step.concat(this.fromSteps(), List.of(Step.mapping(into))),
+            Shape.composition(null, this)
+        );
+    }
 
-        return new Converter<>() {
+    /**
+     * Returns a new {@link Converter} that wraps this value, mapping its output to another type.
+     * <p>
+     * Chains of composed and mapped converters are flattened into a single converter that records which step failed.
+     *
+     * @param into Converts a value of type {@code U} to a value of type {@code V}.
+     * @param from Converts a value of type {@code V} to a value of type {@code U}.
+     * @param <V> The new output type.
+     *
+     * @return A new {@link Converter}.
+     *
+     * @since 0.1.0
+     */
+    public final <V> @NotNull Converter<T, V> mapOutput(
+        final @NotNull Function<@NotNull U, @NotNull V> into,
+        final @NotNull Function<@NotNull V, @NotNull U> from
+    )
+    {
+        return new FusedConverter<>(
+            Step.concat(this.intoSteps(), List.of(Step.mapping(into))),
+            Step.concat(List.of(Step.mapping(from)), this.fromSteps()),
+            Shape.composition(this, null)
+        );
+    }
+
+    /**
+     * Returns a new {@link Converter} that wraps this value, omitting the stack traces of any exceptions thrown while
+     * it is converting a value.
+     * <p>
+     * This is useful when failures are expected and handled, as capturing a stack trace is typically the most expensive
+     * part of throwing an exception.
+     *
+     * @return A new {@link Converter}.
+     *
+     * @since 0.1.0
+     */
+    public @NotNull Converter<T, U> stackless() {
+        final @NotNull FallibleFunction<@NotNull T, @NotNull U, ScopedException> thisInto = this::into;
+        final @NotNull FallibleFunction<@NotNull U, @NotNull T, ScopedException> thisFrom = this::from;
+        final @NotNull Shape shape = Shape.of(Shape.Kind.STACKLESS, this);
+
+        return new Converter<>(true) {
+
+            private final @NotNull Scope intoScope = this.createScope(Method.INTO.context("stackless conversion"));
+            private final @NotNull Scope fromScope = this.createScope(Method.FROM.context("stackless conversion"));
 
             @Override
-            public @NotNull U into(@NotNull V value)
+            public @NotNull Shape shape() {
+                return shape;
+            }
+
+            @Override
+            public @NotNull U into(@NotNull T value)
                 throws @NotNull ScopedException
             {
-                final @NotNull T mapped = this.runScoped(Method.INTO.context("mapping"), () -> from.apply(value));
-
-                return this.runScoped(Method.INTO.context("conversion"), () -> thisInto.apply(mapped));
+                return this.runScoped(this.intoScope, thisInto, value);
             }
 
             @Override
-            public @NotNull V from(@NotNull U value)
+            public @NotNull T from(@NotNull U value)
                 throws @NotNull ScopedException
             {
-                final @NotNull T converted =
-                    this.runScoped(Method.FROM.context("conversion"), () -> thisFrom.apply(value));
-
-                return this.runScoped(Method.FROM.context("mapping"), () -> into.apply(converted));
+                return this.runScoped(this.fromScope, thisFrom, value);
             }
 
         };
     }
 
     /**
-     * Returns a new {@link Converter} that wraps this value, mapping its output to another type.
-     *
-     * @param into Converts a value of type {@code U} to a value of type {@code V}.
-     * @param from Converts a value of type {@code V} to a value of type {@code U}.
-     * @param <V> The new output type.
+     * Returns a new {@link Converter} that wraps this value, running conversions without any scope bookkeeping.
+     * <p>
+     * If a conversion fails, it is run again with scopes enabled, producing the same {@link ScopedException} that this
+     * converter would have thrown. Successful conversions therefore skip the cost of scoping, while failed conversions
+     * cost roughly twice as much. This converter's conversions should be free of side effects.
      *
      * @return A new {@link Converter}.
      *
      * @since 0.1.0
      */
-    public final <V> @NotNull Converter<T, V> mapOutput(
-        final @NotNull Function<@NotNull U, @NotNull V> into,
-        final @NotNull Function<@NotNull V, @NotNull U> from
-    )
-    {
-        final @NotNull Function<@NotNull T, @NotNull U> thisInto = this::into;
-        final @NotNull Function<@NotNull U, @NotNull T> thisFrom = this::from;
+    public @NotNull Converter<T, U> optimistic() {
+        final @NotNull FallibleFunction<@NotNull T, @NotNull U, ScopedException> thisInto = this::into;
+        final @NotNull FallibleFunction<@NotNull U, @NotNull T, ScopedException> thisFrom = this::from;
+        final @NotNull Shape shape = Shape.of(Shape.Kind.OPTIMISTIC, this);
 
         return new Converter<>() {
 
+            private final @NotNull Scope intoScope = this.createScope(Method.INTO.context("optimistic conversion"));
+            private final @NotNull Scope fromScope = this.createScope(Method.FROM.context("optimistic conversion"));
+
             @Override
-            public @NotNull V into(@NotNull T value)
+            public @NotNull Shape shape() {
+                return shape;
+            }
+
+            @Override
+            public @NotNull U into(@NotNull T value)
                 throws @NotNull ScopedException
             {
-                final @NotNull U converted =
-                    this.runScoped(Method.INTO.context("conversion"), () -> thisInto.apply(value));
-
-                return this.runScoped(Method.INTO.context("mapping"), () -> into.apply(converted));
+                return this.runOptimistic(this.intoScope, thisInto, value);
             }
 
             @Override
-            public @NotNull T from(@NotNull V value)
+            public @NotNull T from(@NotNull U value)
                 throws @NotNull ScopedException
             {
-                final @NotNull U mapped = this.runScoped(Method.FROM.context("mapping"), () -> from.apply(value));
-
-                return this.runScoped(Method.FROM.context("conversion"), () -> thisFrom.apply(mapped));
+                return this.runOptimistic(this.fromScope, thisFrom, value);
             }
 
         };
@@ -261,4 +668,202 @@ public abstract class Converter<T, U>
 
     }
 
+    /**
+     * Describes how a {@link Converter} was built from other converters.
+     * <p>
+     * Shapes form a graph that tools may walk to inspect or deduplicate converters. Derived converters that are
+     * memoized, such as those returned by {@link JsonConverter#list()}, share the same instance for the same element
+     * converter.
+     *
+     * @param kind The kind of converter.
+     * @param children The converters that this converter was built from, in the order that they convert values into
+     * their output type.
+     * @param mappings The number of mapping functions that were composed into this converter.
+     *
+     * @author Jaxydog
+     * @since 0.1.0
+     */
+    public record Shape(@NotNull Kind kind, @NotNull List<@NotNull Converter<?, ?>> children, int mappings) {
+
+        /**
+         * The shape of a converter that is not built from other converters.
+         *
+         * @since 0.1.0
+         */
+        public static final Shape LEAF = new Shape(Kind.LEAF, List.of(), 0);
+
+        /**
+         * Creates a new {@link Shape}.
+         *
+         * @param kind The kind of converter.
+         * @param children The converters that this converter was built from.
+         * @param mappings The number of mapping functions that were composed into this converter.
+         *
+         * @throws IllegalArgumentException If the number of mappings is negative.
+         * @since 0.1.0
+         */
+        public Shape {
+            Objects.requireNonNull(kind);
+
+            children = List.copyOf(children);
+
+            if (mappings < 0) throw new IllegalArgumentException("The number of mappings must not be negative.");
+        }
+
+        /**
+         * Creates a new {@link Shape} with a single child.
+         *
+         * @param kind The kind of converter.
+         * @param child The converter that this converter was built from.
+         *
+         * @return A new shape.
+         *
+         * @since 0.1.0
+         */
+        public static @NotNull Shape of(final @NotNull Kind kind, final @NotNull Converter<?, ?> child) {
+            return new Shape(kind, List.of(child), 0);
+        }
+
+        /**
+         * Creates the shape of a composition of two steps, flattening any steps that are themselves compositions.
+         *
+         * @param first The first converter, or {@code null} if the first step is a mapping function.
+         * @param second The second converter, or {@code null} if the second step is a mapping function.
+         *
+         * @return A new shape.
+         *
+         * @since 0.1.0
+         */
+        static @NotNull Shape composition(
+            final @Nullable Converter<?, ?> first,
+            final @Nullable Converter<?, ?> second
+        )
+        {
+            final @NotNull List<@NotNull Converter<?, ?>> children = new ArrayList<>();
+            final int mappings = Shape.addSteps(children, first) + Shape.addSteps(children, second);
+
+            return new Shape(Kind.COMPOSITION, children, mappings);
+        }
+
+        /**
+         * Adds the steps of the given converter to the given list.
+         *
+         * @param children The list of steps.
+         * @param step The converter, or {@code null} if the step is a mapping function.
+         *
+         * @return The number of mapping functions within the step.
+         *
+         * @since 0.1.0
+         */
+        private static int addSteps(
+            final @NotNull List<@NotNull Converter<?, ?>> children,
+            final @Nullable Converter<?, ?> step
+        )
+        {
+            if (Objects.isNull(step)) return 1;
+
+            final @NotNull Shape shape = step.shape();
+
+            if (shape.kind() != Kind.COMPOSITION) {
+                children.add(step);
+
+                return 0;
+            }
+
+            children.addAll(shape.children());
+
+            return shape.mappings();
+        }
+
+        /**
+         * A kind of {@link Converter}.
+         *
+         * @author Jaxydog
+         * @since 0.1.0
+         */
+        public enum Kind {
+
+            /**
+             * A converter that is not built from other converters.
+             *
+             * @since 0.1.0
+             */
+            LEAF,
+            /**
+             * A converter for lists, whose only child converts the list's elements.
+             *
+             * @since 0.1.0
+             */
+            LIST,
+            /**
+             * A converter for maps, whose only child converts the map's values.
+             *
+             * @since 0.1.0
+             */
+            MAP,
+            /**
+             * A converter for lists, whose only child converts the list's elements on several threads.
+             *
+             * @since 0.1.0
+             */
+            PARALLEL_LIST,
+            /**
+             * A converter for maps, whose only child converts the map's values on several threads.
+             *
+             * @since 0.1.0
+             */
+            PARALLEL_MAP,
+            /**
+             * A converter for lists, whose only child converts the list's elements when they are first accessed.
+             *
+             * @since 0.1.0
+             */
+            LAZY_LIST,
+            /**
+             * A converter for maps, whose only child converts the map's values when they are first accessed.
+             *
+             * @since 0.1.0
+             */
+            LAZY_MAP,
+            /**
+             * A converter that runs its children and mapping functions one after another.
+             *
+             * @since 0.1.0
+             */
+            COMPOSITION,
+            /**
+             * A converter that runs its only child while omitting stack traces.
+             *
+             * @since 0.1.0
+             */
+            STACKLESS,
+            /**
+             * A converter that runs its only child optimistically.
+             *
+             * @since 0.1.0
+             */
+            OPTIMISTIC,
+            /**
+             * A converter that delegates each value to one of its children, chosen by the value's subtype.
+             *
+             * @since 0.1.0
+             */
+            POLYMORPHIC,
+            /**
+             * A converter that runs its only child and caches the values that it converts.
+             *
+             * @since 0.1.0
+             */
+            CACHED,
+            /**
+             * A converter for records, whose children convert the record's components in declaration order.
+             *
+             * @since 0.1.0
+             */
+            RECORD
+
+        }
+
+    }
+
 }
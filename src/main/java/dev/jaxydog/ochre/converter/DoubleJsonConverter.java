@@ -0,0 +1,368 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2025 Jaxydog
+ *
+ * This file is part of Ochre.
+ *
+ * Ochre is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Ochre is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Ochre. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.ochre.converter;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import dev.jaxydog.ochre.utility.FallibleBiConsumer;
+import dev.jaxydog.ochre.utility.FallibleFunction;
+import dev.jaxydog.ochre.utility.Result;
+import dev.jaxydog.ochre.utility.ScopedException;
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+import it.unimi.dsi.fastutil.doubles.DoubleList;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+
+/**
+ * A {@link JsonConverter} for double values that provides methods for converting unboxed values.
+ * <p>
+ * Conversions do not enter a scope unless they fail, as they cannot contain any nested conversions.
+ *
+ * @author Jaxydog
+ * @since 0.1.0
+ */
+public final class DoubleJsonConverter
+    extends JsonConverter<Double>
+{
+
+    /**
+     * A handle for {@link #doubleList}, used to publish it atomically.
+     *
+     * @since 0.1.0
+     */
+    private static final @NotNull VarHandle DOUBLE_LIST =
+        JsonConverter.memoHandle(MethodHandles.lookup(), "doubleList", JsonConverter.class);
+
+    /**
+     * The scope used while converting into a {@link JsonElement}.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull Scope intoScope = this.createScope(Method.INTO.context());
+    /**
+     * The scope used while converting from a {@link JsonElement}.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull Scope fromScope = this.createScope(Method.FROM.context());
+
+    /**
+     * This converter's list converter, created on first access.
+     *
+     * @since 0.1.0
+     */
+    private volatile @Nullable JsonConverter<DoubleList> doubleList;
+
+    /**
+     * Creates a new {@link DoubleJsonConverter}.
+     *
+     * @since 0.1.0
+     */
+    DoubleJsonConverter() { }
+
+    /**
+     * Converts from a double into a {@link JsonElement}.
+     *
+     * @param value The value to convert.
+     *
+     * @return The converted value.
+     *
+     * @since 0.1.0
+     */
+    public @NotNull JsonElement into(final double value) {
+        return new JsonPrimitive(value);
+    }
+
+    /**
+     * Converts from a {@link JsonElement} into a double.
+     *
+     * @param value The value to convert.
+     *
+     * @return The converted value.
+     *
+     * @throws ScopedException If the conversion fails.
+     * @since 0.1.0
+     */
+    public double doubleFrom(final @NotNull JsonElement value)
+        throws @NotNull ScopedException
+    {
+        try {
+            return value.getAsNumber().doubleValue();
+        } catch (final @NotNull RuntimeException exception) {
+            throw this.scopedFailure(this.fromScope, exception);
+        }
+    }
+
+    /**
+     * Reads a double from the given reader.
+     *
+     * @param reader The reader.
+     *
+     * @return The double.
+     *
+     * @throws ScopedException If the value could not be read.
+     * @since 0.1.0
+     */
+    public double readDouble(final @NotNull JsonReader reader)
+        throws @NotNull ScopedException
+    {
+        try {
+            return reader.nextDouble();
+        } catch (final @NotNull IOException | RuntimeException exception) {
+            throw this.scopedFailure(this.fromScope, exception);
+        }
+    }
+
+    /**
+     * Writes the given double to the given writer.
+     *
+     * @param writer The writer.
+     * @param value The value to write.
+     *
+     * @throws ScopedException If the value could not be written.
+     * @since 0.1.0
+     */
+    public void write(final @NotNull JsonWriter writer, final double value)
+        throws @NotNull ScopedException
+    {
+        try {
+            writer.value(value);
+        } catch (final @NotNull IOException | RuntimeException exception) {
+            throw this.scopedFailure(this.intoScope, exception);
+        }
+    }
+
+    /**
+     * Returns a {@link JsonConverter} that converts to and from a list of doubles.
+     * <p>
+     * Unlike {@link #list()}, the list's values are stored without boxing. Each value is converted without entering a
+     * scope unless it fails. The converter is created on first access, and the same instance is returned by every later
+     * call.
+     *
+     * @return A {@link JsonConverter}.
+     *
+     * @since 0.1.0
+     */
+    public @NotNull JsonConverter<DoubleList> doubleList() {
+        final @Nullable JsonConverter<DoubleList> list = this.doubleList;
+
+        if (Objects.nonNull(list)) return list;
+
+        return JsonConverter.memoize(DoubleJsonConverter.DOUBLE_LIST, this, this.createDoubleList());
+    }
+
+    /**
+     * Creates a new {@link JsonConverter} that converts to and from a list of doubles.
+     *
+     * @return A new {@link JsonConverter}.
+     *
+     * @since 0.1.0
+     */
+    private @NotNull JsonConverter<DoubleList> createDoubleList() {
+        final @NotNull DoubleJsonConverter converter = this;
+        final @NotNull Shape shape = Shape.of(Shape.Kind.LIST, this);
+
+        return new JsonConverter<>() {
+
+            private final @NotNull Scope arrayConstruction =
+                this.createScope(Method.INTO.context("array construction"));
+            private final @NotNull Scope intoElement = this.createScope(Method.INTO.context("element conversion"));
+            private final @NotNull Scope arrayResolution = this.createScope(Method.FROM.context("array resolution"));
+            private final @NotNull Scope listConstruction = this.createScope(Method.FROM.context("list construction"));
+            private final @NotNull Scope fromElement = this.createScope(Method.FROM.context("element conversion"));
+
+            private final @NotNull FallibleFunction<DoubleList, JsonArray, ScopedException> constructArray =
+                this::constructArray;
+            private final @NotNull FallibleFunction<JsonArray, DoubleList, ScopedException> constructList =
+                this::constructList;
+            private final @NotNull FallibleBiConsumer<JsonWriter, DoubleList, IOException> writeArray =
+                this::writeArray;
+            private final @NotNull FallibleFunction<JsonReader, DoubleList, IOException> readList = this::readList;
+
+            @Override
+            public @NotNull Shape shape() {
+                return shape;
+            }
+
+            @Override
+            public @NotNull JsonElement into(@NotNull DoubleList value)
+                throws @NotNull ScopedException
+            {
+                return this.runScoped(this.arrayConstruction, this.constructArray, value);
+            }
+
+            @Override
+            public @NotNull DoubleList from(@NotNull JsonElement value)
+                throws @NotNull ScopedException
+            {
+                final @NotNull JsonArray array =
+                    this.runScoped(this.arrayResolution, JsonElement::getAsJsonArray, value);
+
+                return this.runScoped(this.listConstruction, this.constructList, array);
+            }
+
+            @Override
+            public @NotNull DoubleList read(final @NotNull JsonReader reader)
+                throws @NotNull ScopedException
+            {
+                return this.runScoped(this.listConstruction, this.readList, reader);
+            }
+
+            @Override
+            public void write(final @NotNull JsonWriter writer, final @NotNull DoubleList value)
+                throws @NotNull ScopedException
+            {
+                this.runScoped(this.arrayConstruction, this.writeArray, writer, value);
+            }
+
+            private @NotNull JsonArray constructArray(final @NotNull DoubleList value)
+                throws @NotNull ScopedException
+            {
+                final int size = value.size();
+
+                this.consumeBudget(this.arrayConstruction, size);
+
+                final @NotNull JsonArray array = new JsonArray(size);
+
+                for (int index = 0; index < size; index += 1) {
+                    array.add(converter.into(value.getDouble(index)));
+                }
+
+                return array;
+            }
+
+            private @NotNull DoubleList constructList(final @NotNull JsonArray array)
+                throws @NotNull ScopedException
+            {
+                final int size = array.size();
+
+                this.consumeBudget(this.listConstruction, size);
+
+                final double @NotNull [] values = new double[size];
+
+                for (int index = 0; index < size; index += 1) {
+                    try {
+                        values[index] = converter.doubleFrom(array.get(index));
+                    } catch (final @NotNull ScopedException exception) {
+                        throw this.scopedFailure(this.fromElement, exception, index);
+                    }
+                }
+
+                return DoubleArrayList.wrap(values);
+            }
+
+            private void writeArray(final @NotNull JsonWriter writer, final @NotNull DoubleList value)
+                throws @NotNull IOException, @NotNull ScopedException
+            {
+                final int size = value.size();
+
+                this.consumeBudget(this.arrayConstruction, size);
+
+                writer.beginArray();
+
+                for (int index = 0; index < size; index += 1) {
+                    try {
+                        converter.write(writer, value.getDouble(index));
+                    } catch (final @NotNull ScopedException exception) {
+                        throw this.scopedFailure(this.intoElement, exception, index);
+                    }
+                }
+
+                writer.endArray();
+            }
+
+            private @NotNull DoubleList readList(final @NotNull JsonReader reader)
+                throws @NotNull IOException, @NotNull ScopedException
+            {
+                reader.beginArray();
+
+                final @NotNull DoubleList list = new DoubleArrayList();
+
+                for (int index = 0; reader.hasNext(); index += 1) {
+                    this.consumeBudget(this.listConstruction, 1);
+
+                    try {
+                        list.add(converter.readDouble(reader));
+                    } catch (final @NotNull ScopedException exception) {
+                        throw this.scopedFailure(this.fromElement, exception, index);
+                    }
+                }
+
+                reader.endArray();
+
+                return list;
+            }
+
+        };
+    }
+
+    @Override
+    public @NotNull JsonElement into(final @NotNull Double value)
+        throws @NotNull ScopedException
+    {
+        return this.into(value.doubleValue());
+    }
+
+    @Override
+    public @NotNull Double from(final @NotNull JsonElement value)
+        throws @NotNull ScopedException
+    {
+        return this.doubleFrom(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Numbers are converted without throwing, as are objects and nulls, which always fail. Other values are converted
+     * using {@link #from(JsonElement)}, which may throw internally if they are not valid.
+     *
+     * @since 0.1.0
+     */
+    @Override
+    public @NotNull Result<@NotNull Double> tryFrom(final @NotNull JsonElement value) {
+        final @Nullable Number number = JsonNumbers.numberOf(value);
+
+        if (Objects.nonNull(number)) {
+            return Result.success(number.doubleValue());
+        } else if (JsonNumbers.isNeverNumber(value)) {
+            return this.failedResult(this.fromScope, JsonConverter.unsupported(value));
+        }
+
+        return super.tryFrom(value);
+    }
+
+    @Override
+    public @NotNull Double read(final @NotNull JsonReader reader)
+        throws @NotNull ScopedException
+    {
+        return this.readDouble(reader);
+    }
+
+    @Override
+    public void write(final @NotNull JsonWriter writer, final @NotNull Double value)
+        throws @NotNull ScopedException
+    {
+        this.write(writer, value.doubleValue());
+    }
+
+}
@@ -0,0 +1,387 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2025 Jaxydog
+ *
+ * This file is part of Ochre.
+ *
+ * Ochre is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Ochre is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Ochre. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.ochre.converter;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import dev.jaxydog.ochre.utility.Result;
+import dev.jaxydog.ochre.utility.ScopedException;
+import it.unimi.dsi.fastutil.Hash.Strategy;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenCustomHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A {@link JsonConverter} for enum constants, which are represented by their names.
+ * <p>
+ * Names are resolved through a table that is built when the converter is created, and which may optionally ignore
+ * case or contain aliases. Constants are always converted into their declared names, using a {@link JsonPrimitive}
+ * that is created once per constant. Unknown names are rejected without relying on {@link Enum#valueOf(Class, String)}
+ * throwing, and conversions do not enter a scope unless they fail.
+ *
+ * @param <E> The enum type.
+ *
+ * @author Jaxydog
+ * @since 0.1.0
+ */
+public final class EnumJsonConverter<E extends Enum<E>>
+    extends JsonConverter<E>
+{
+
+    /**
+     * The default converters for each enum class.
+     *
+     * @since 0.1.0
+     */
+    private static final ClassValue<EnumJsonConverter<?>> CONVERTERS = new ClassValue<>() {
+
+        @Override
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        protected @NotNull EnumJsonConverter<?> computeValue(final @NotNull Class<?> type) {
+            if (!type.isEnum()) {
+                throw new IllegalArgumentException("Class '%s' is not an enum".formatted(type.getName()));
+            }
+
+            return new EnumJsonConverter((Class) type, Map.of(), false);
+        }
+
+    };
+
+    /**
+     * Compares names exactly.
+     *
+     * @since 0.1.0
+     */
+    private static final Strategy<String> CASE_SENSITIVE = new Strategy<>() {
+
+        @Override
+        public int hashCode(final @Nullable String value) {
+            return Objects.hashCode(value);
+        }
+
+        @Override
+        public boolean equals(final @Nullable String first, final @Nullable String second) {
+            return Objects.equals(first, second);
+        }
+
+    };
+    /**
+     * Compares names while ignoring case, matching {@link String#equalsIgnoreCase(String)} without allocating.
+     *
+     * @since 0.1.0
+     */
+    private static final Strategy<String> CASE_INSENSITIVE = new Strategy<>() {
+
+        @Override
+        public int hashCode(final @Nullable String value) {
+            if (Objects.isNull(value)) return 0;
+
+            int hash = 0;
+
+            for (int index = 0; index < value.length(); index += 1) {
+                hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(value.charAt(index)));
+            }
+
+            return hash;
+        }
+
+        @Override
+        public boolean equals(final @Nullable String first, final @Nullable String second) {
+            return Objects.isNull(first) ? Objects.isNull(second) : first.equalsIgnoreCase(second);
+        }
+
+    };
+
+    /**
+     * The scope used while converting into a {@link JsonElement}.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull Scope intoScope = this.createScope(Method.INTO.context());
+    /**
+     * The scope used while converting from a {@link JsonElement}.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull Scope fromScope = this.createScope(Method.FROM.context());
+
+    /**
+     * The enum class.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull Class<E> type;
+    /**
+     * The name of each constant, indexed by ordinal.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull JsonPrimitive @NotNull [] names;
+    /**
+     * The constants, keyed by their names and aliases.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull Object2ObjectOpenCustomHashMap<String, E> constants;
+    /**
+     * The aliases added to this converter, keyed by alias.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull Map<@NotNull String, @NotNull E> aliases;
+    /**
+     * Whether names are resolved while ignoring case.
+     *
+     * @since 0.1.0
+     */
+    private final boolean ignoreCase;
+
+    /**
+     * Creates a new {@link EnumJsonConverter}.
+     *
+     * @param type The enum class.
+     * @param aliases The aliases, keyed by alias.
+     * @param ignoreCase Whether names are resolved while ignoring case.
+     *
+     * @throws IllegalArgumentException If two names or aliases resolve to different constants.
+     * @since 0.1.0
+     */
+    EnumJsonConverter(
+        final @NotNull Class<E> type,
+        final @NotNull Map<@NotNull String, @NotNull E> aliases,
+        final boolean ignoreCase
+    )
+        throws @NotNull IllegalArgumentException
+    {
+        final @NotNull E[] values = type.getEnumConstants();
+        final @NotNull Strategy<String> strategy =
+            ignoreCase ? EnumJsonConverter.CASE_INSENSITIVE : EnumJsonConverter.CASE_SENSITIVE;
+
+        this.type = type;
+        this.names = new JsonPrimitive[values.length];
+        this.constants = new Object2ObjectOpenCustomHashMap<>(values.length + aliases.size(), strategy);
+        this.aliases = Map.copyOf(aliases);
+        this.ignoreCase = ignoreCase;
+
+        for (final @NotNull E value : values) {
+            this.names[value.ordinal()] = new JsonPrimitive(value.name());
+
+            this.addName(value.name(), value);
+        }
+        for (final @NotNull Entry<@NotNull String, @NotNull E> entry : this.aliases.entrySet()) {
+            this.addName(entry.getKey(), entry.getValue());
+        }
+
+        this.constants.trim();
+    }
+
+    /**
+     * Returns the default converter for the given enum class, which resolves names exactly and has no aliases.
+     *
+     * @param type The enum class.
+     * @param <E> The enum type.
+     *
+     * @return The converter.
+     *
+     * @since 0.1.0
+     */
+    @SuppressWarnings("unchecked")
+    static <E extends Enum<E>> @NotNull EnumJsonConverter<E> of(final @NotNull Class<E> type) {
+        return (EnumJsonConverter<E>) EnumJsonConverter.CONVERTERS.get(type);
+    }
+
+    /**
+     * Adds a name to the constant table.
+     *
+     * @param name The name.
+     * @param value The constant.
+     *
+     * @throws IllegalArgumentException If the name already resolves to a different constant.
+     * @since 0.1.0
+     */
+    private void addName(final @NotNull String name, final @NotNull E value)
+        throws @NotNull IllegalArgumentException
+    {
+        final @Nullable E previous = this.constants.putIfAbsent(name, value);
+
+        if (Objects.nonNull(previous) && previous != value) {
+            final @NotNull String format = "Name '%s' of enum '%s' refers to both '%s' and '%s'";
+
+            throw new IllegalArgumentException(format.formatted(name, this.type.getName(), previous, value));
+        }
+    }
+
+    /**
+     * Returns a {@link EnumJsonConverter} that also resolves the given alias to the given constant.
+     * <p>
+     * Constants are still converted into their declared names.
+     *
+     * @param alias The alias.
+     * @param value The constant.
+     *
+     * @return A new {@link EnumJsonConverter}.
+     *
+     * @throws IllegalArgumentException If the alias already resolves to a different constant.
+     * @since 0.1.0
+     */
+    public @NotNull EnumJsonConverter<E> withAlias(final @NotNull String alias, final @NotNull E value)
+        throws @NotNull IllegalArgumentException
+    {
+        final @NotNull Map<@NotNull String, @NotNull E> aliases = new HashMap<>(this.aliases);
+
+        aliases.put(alias, value);
+
+        return new EnumJsonConverter<>(this.type, aliases, this.ignoreCase);
+    }
+
+    /**
+     * Returns a {@link EnumJsonConverter} that resolves names and aliases while ignoring case.
+     *
+     * @return A {@link EnumJsonConverter}, or this converter if it already ignores case.
+     *
+     * @throws IllegalArgumentException If two names or aliases differ only by case and refer to different constants.
+     * @since 0.1.0
+     */
+    public @NotNull EnumJsonConverter<E> ignoringCase()
+        throws @NotNull IllegalArgumentException
+    {
+        if (this.ignoreCase) return this;
+
+        return new EnumJsonConverter<>(this.type, this.aliases, true);
+    }
+
+    /**
+     * Returns the constant with the given name or alias.
+     *
+     * @param name The name or alias.
+     *
+     * @return The constant, or {@code null} if no constant has the given name or alias.
+     *
+     * @since 0.1.0
+     */
+    public @Nullable E constant(final @NotNull String name) {
+        return this.constants.get(name);
+    }
+
+    /**
+     * Resolves the constant with the given name or alias, failing if there is no such constant.
+     *
+     * @param name The name or alias.
+     *
+     * @return The constant.
+     *
+     * @throws ScopedException If no constant has the given name or alias.
+     * @since 0.1.0
+     */
+    private @NotNull E resolve(final @NotNull String name)
+        throws @NotNull ScopedException
+    {
+        final @Nullable E value = this.constants.get(name);
+
+        if (Objects.nonNull(value)) return value;
+
+        throw this.scopedFailure(this.fromScope, this.unknownConstant(name));
+    }
+
+    /**
+     * Creates an exception for a name that does not resolve to a constant.
+     *
+     * @param name The name.
+     *
+     * @return A new exception.
+     *
+     * @since 0.1.0
+     */
+    private @NotNull NoSuchElementException unknownConstant(final @NotNull String name) {
+        return new NoSuchElementException("Unknown constant '%s' of enum '%s'".formatted(name, this.type.getName()));
+    }
+
+    @Override
+    public @NotNull JsonElement into(final @NotNull E value)
+        throws @NotNull ScopedException
+    {
+        return this.names[value.ordinal()];
+    }
+
+    @Override
+    public @NotNull E from(final @NotNull JsonElement value)
+        throws @NotNull ScopedException
+    {
+        final @NotNull String name;
+
+        try {
+            name = value.getAsString();
+        } catch (final @NotNull RuntimeException exception) {
+            throw this.scopedFailure(this.fromScope, exception);
+        }
+
+        return this.resolve(name);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Primitives are converted without throwing, including those that do not name a constant.
+     *
+     * @since 0.1.0
+     */
+    @Override
+    public @NotNull Result<@NotNull E> tryFrom(final @NotNull JsonElement value) {
+        if (!(value instanceof final @NotNull JsonPrimitive primitive)) return super.tryFrom(value);
+
+        final @NotNull String name = primitive.getAsString();
+        final @Nullable E constant = this.constants.get(name);
+
+        if (Objects.nonNull(constant)) return Result.success(constant);
+
+        return this.failedResult(this.fromScope, this.unknownConstant(name));
+    }
+
+    @Override
+    public @NotNull E read(final @NotNull JsonReader reader)
+        throws @NotNull ScopedException
+    {
+        final @NotNull String name;
+
+        try {
+            name = reader.nextString();
+        } catch (final @NotNull IOException | RuntimeException exception) {
+            throw this.scopedFailure(this.fromScope, exception);
+        }
+
+        return this.resolve(name);
+    }
+
+    @Override
+    public void write(final @NotNull JsonWriter writer, final @NotNull E value)
+        throws @NotNull ScopedException
+    {
+        try {
+            writer.value(value.name());
+        } catch (final @NotNull IOException | RuntimeException exception) {
+            throw this.scopedFailure(this.intoScope, exception);
+        }
+    }
+
+}
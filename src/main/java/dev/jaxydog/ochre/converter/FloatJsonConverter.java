@@ -0,0 +1,183 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2025 Jaxydog
+ *
+ * This file is part of Ochre.
+ *
+ * Ochre is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Ochre is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Ochre. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.ochre.converter;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import dev.jaxydog.ochre.utility.Result;
+import dev.jaxydog.ochre.utility.ScopedException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * A {@link JsonConverter} for float values that provides methods for converting unboxed values.
+ * <p>
+ * Conversions do not enter a scope unless they fail, as they cannot contain any nested conversions.
+ *
+ * @author Jaxydog
+ * @since 0.1.0
+ */
+public final class FloatJsonConverter
+    extends JsonConverter<Float>
+{
+
+    /**
+     * The scope used while converting into a {@link JsonElement}.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull Scope intoScope = this.createScope(Method.INTO.context());
+    /**
+     * The scope used while converting from a {@link JsonElement}.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull Scope fromScope = this.createScope(Method.FROM.context());
+
+    /**
+     * Creates a new {@link FloatJsonConverter}.
+     *
+     * @since 0.1.0
+     */
+    FloatJsonConverter() { }
+
+    /**
+     * Converts from a float into a {@link JsonElement}.
+     *
+     * @param value The value to convert.
+     *
+     * @return The converted value.
+     *
+     * @since 0.1.0
+     */
+    public @NotNull JsonElement into(final float value) {
+        return new JsonPrimitive(value);
+    }
+
+    /**
+     * Converts from a {@link JsonElement} into a float.
+     *
+     * @param value The value to convert.
+     *
+     * @return The converted value.
+     *
+     * @throws ScopedException If the conversion fails.
+     * @since 0.1.0
+     */
+    public float floatFrom(final @NotNull JsonElement value)
+        throws @NotNull ScopedException
+    {
+        try {
+            return value.getAsNumber().floatValue();
+        } catch (final @NotNull RuntimeException exception) {
+            throw this.scopedFailure(this.fromScope, exception);
+        }
+    }
+
+    /**
+     * Reads a float from the given reader.
+     *
+     * @param reader The reader.
+     *
+     * @return The float.
+     *
+     * @throws ScopedException If the value could not be read.
+     * @since 0.1.0
+     */
+    public float readFloat(final @NotNull JsonReader reader)
+        throws @NotNull ScopedException
+    {
+        try {
+            // Parsing the value's text directly avoids rounding it twice, as narrowing a parsed double would.
+            return Float.parseFloat(reader.nextString());
+        } catch (final @NotNull IOException | RuntimeException exception) {
+            throw this.scopedFailure(this.fromScope, exception);
+        }
+    }
+
+    /**
+     * Writes the given float to the given writer.
+     *
+     * @param writer The writer.
+     * @param value The value to write.
+     *
+     * @throws ScopedException If the value could not be written.
+     * @since 0.1.0
+     */
+    public void write(final @NotNull JsonWriter writer, final float value)
+        throws @NotNull ScopedException
+    {
+        try {
+            writer.value(value);
+        } catch (final @NotNull IOException | RuntimeException exception) {
+            throw this.scopedFailure(this.intoScope, exception);
+        }
+    }
+
+    @Override
+    public @NotNull JsonElement into(final @NotNull Float value)
+        throws @NotNull ScopedException
+    {
+        return this.into(value.floatValue());
+    }
+
+    @Override
+    public @NotNull Float from(final @NotNull JsonElement value)
+        throws @NotNull ScopedException
+    {
+        return this.floatFrom(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Numbers are converted without throwing, as are objects and nulls, which always fail. Other values are converted
+     * using {@link #from(JsonElement)}, which may throw internally if they are not valid.
+     *
+     * @since 0.1.0
+     */
+    @Override
+    public @NotNull Result<@NotNull Float> tryFrom(final @NotNull JsonElement value) {
+        final @Nullable Number number = JsonNumbers.numberOf(value);
+
+        if (Objects.nonNull(number)) {
+            return Result.success(number.floatValue());
+        } else if (JsonNumbers.isNeverNumber(value)) {
+            return this.failedResult(this.fromScope, JsonConverter.unsupported(value));
+        }
+
+        return super.tryFrom(value);
+    }
+
+    @Override
+    public @NotNull Float read(final @NotNull JsonReader reader)
+        throws @NotNull ScopedException
+    {
+        return this.readFloat(reader);
+    }
+
+    @Override
+    public void write(final @NotNull JsonWriter writer, final @NotNull Float value)
+        throws @NotNull ScopedException
+    {
+        this.write(writer, value.floatValue());
+    }
+
+}
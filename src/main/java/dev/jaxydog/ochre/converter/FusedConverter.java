@@ -0,0 +1,176 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2025 Jaxydog
+ *
+ * This file is part of Ochre.
+ *
+ * Ochre is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Ochre is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Ochre. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.ochre.converter;
+
+import dev.jaxydog.ochre.utility.FallibleFunction;
+import dev.jaxydog.ochre.utility.Report;
+import dev.jaxydog.ochre.utility.Result;
+import dev.jaxydog.ochre.utility.ScopedException;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * A {@link Converter} that runs a chain of composed conversion steps within a single scope.
+ * <p>
+ * Composing a fused converter with another converter concatenates their steps, so a chain of any length is flattened
+ * into one converter rather than nesting a new converter for each step. A failed step is still recorded within the
+ * failure, so that it describes whether a mapping function or a converter failed, and at which step.
+ *
+ * @param <T> The first conversion type.
+ * @param <U> The second conversion type.
+ *
+ * @author Jaxydog
+ * @since 0.1.0
+ */
+final class FusedConverter<T, U>
+    extends Converter<T, U>
+{
+
+    /**
+     * The scope used while converting into a value of type {@code U}.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull Scope intoScope = this.createScope(Method.INTO.context("composition"));
+    /**
+     * The scope used while converting from a value of type {@code U}.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull Scope fromScope = this.createScope(Method.FROM.context("composition"));
+
+    /**
+     * The steps run while converting into a value of type {@code U}.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull List<@NotNull Step> intoSteps;
+    /**
+     * The steps run while converting from a value of type {@code U}.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull List<@NotNull Step> fromSteps;
+    /**
+     * The scope of each step run while converting into a value of type {@code U}.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull List<@NotNull Scope> intoStepScopes;
+    /**
+     * The scope of each step run while converting from a value of type {@code U}.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull List<@NotNull Scope> fromStepScopes;
+
+    /**
+     * Converts from a value of type {@code T} to a value of type {@code U}.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull FallibleFunction<@NotNull Object, @NotNull Object, ScopedException> into;
+    /**
+     * Converts from a value of type {@code U} to a value of type {@code T}.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull FallibleFunction<@NotNull Object, @NotNull Object, ScopedException> from;
+
+    /**
+     * The shape of this converter.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull Shape shape;
+
+    /**
+     * Creates a new {@link FusedConverter}.
+     *
+     * @param intoSteps The steps run while converting into a value of type {@code U}.
+     * @param fromSteps The steps run while converting from a value of type {@code U}.
+     * @param shape The shape of this converter.
+     *
+     * @since 0.1.0
+     */
+    FusedConverter(
+        final @NotNull List<@NotNull Step> intoSteps,
+        final @NotNull List<@NotNull Step> fromSteps,
+        final @NotNull Shape shape
+    )
+    {
+        this.intoSteps = List.copyOf(intoSteps);
+        this.fromSteps = List.copyOf(fromSteps);
+        this.intoStepScopes = this.createStepScopes(Method.INTO, this.intoSteps);
+        this.fromStepScopes = this.createStepScopes(Method.FROM, this.fromSteps);
+        this.into = value -> this.runSteps(this.intoSteps, this.intoStepScopes, value);
+        this.from = value -> this.runSteps(this.fromSteps, this.fromStepScopes, value);
+        this.shape = shape;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @NotNull U into(final @NotNull T value)
+        throws @NotNull ScopedException
+    {
+        return (U) this.runScoped(this.intoScope, this.into, value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @NotNull T from(final @NotNull U value)
+        throws @NotNull ScopedException
+    {
+        return (T) this.runScoped(this.fromScope, this.from, value);
+    }
+
+    @Override
+    public @NotNull Result<@NotNull U> tryInto(final @NotNull T value) {
+        if (this.isEnforcingBudget()) return super.tryInto(value);
+
+        return this.attemptSteps(this.intoScope, this.intoSteps, this.intoStepScopes, 0, value);
+    }
+
+    @Override
+    public @NotNull Result<@NotNull T> tryFrom(final @NotNull U value) {
+        if (this.isEnforcingBudget()) return super.tryFrom(value);
+
+        return this.attemptSteps(this.fromScope, this.fromSteps, this.fromStepScopes, 0, value);
+    }
+
+    @Override
+    public @NotNull Report<@NotNull T> tryFromAll(final @NotNull U value) {
+        if (this.isEnforcingBudget()) return super.tryFromAll(value);
+
+        return this.reportSteps(this.fromScope, this.fromSteps, this.fromStepScopes, value);
+    }
+
+    @Override
+    public @NotNull Shape shape() {
+        return this.shape;
+    }
+
+    @Override
+    @NotNull List<@NotNull Step> intoSteps() {
+        return this.intoSteps;
+    }
+
+    @Override
+    @NotNull List<@NotNull Step> fromSteps() {
+        return this.fromSteps;
+    }
+
+}
@@ -0,0 +1,279 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2025 Jaxydog
+ *
+ * This file is part of Ochre.
+ *
+ * Ochre is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Ochre is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Ochre. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.ochre.converter;
+
+import com.google.gson.JsonElement;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import dev.jaxydog.ochre.utility.FallibleBiConsumer;
+import dev.jaxydog.ochre.utility.FallibleFunction;
+import dev.jaxydog.ochre.utility.Report;
+import dev.jaxydog.ochre.utility.Result;
+import dev.jaxydog.ochre.utility.ScopedException;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * A {@link JsonConverter} that runs a chain of composed conversion steps within a single scope.
+ * <p>
+ * Composing a fused converter with another converter concatenates their steps, so a chain of any length is flattened
+ * into one converter rather than nesting a new converter for each step. A failed step is still recorded within the
+ * failure, so that it describes whether a mapping function or a converter failed, and at which step.
+ *
+ * @param <T> The type being converted.
+ *
+ * @author Jaxydog
+ * @since 0.1.0
+ */
+final class FusedJsonConverter<T>
+    extends JsonConverter<T>
+{
+
+    /**
+     * The scope used while converting into a {@link JsonElement}.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull Scope intoScope = this.createScope(Method.INTO.context("composition"));
+    /**
+     * The scope used while converting from a {@link JsonElement}.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull Scope fromScope = this.createScope(Method.FROM.context("composition"));
+
+    /**
+     * The steps run while converting into a {@link JsonElement}.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull List<@NotNull Step> intoSteps;
+    /**
+     * The steps run while converting from a {@link JsonElement}.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull List<@NotNull Step> fromSteps;
+    /**
+     * The steps run while reading from a {@link JsonReader}.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull List<@NotNull Step> readSteps;
+    /**
+     * The steps run before {@link #writer} while writing to a {@link JsonWriter}.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull List<@NotNull Step> writeSteps;
+    /**
+     * Writes the result of {@link #writeSteps} to a {@link JsonWriter}.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull FallibleBiConsumer<@NotNull JsonWriter, @NotNull Object, ? extends Exception> writer;
+
+    /**
+     * The scope of each step run while converting into a {@link JsonElement}.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull List<@NotNull Scope> intoStepScopes;
+    /**
+     * The scope of each step run while converting from a {@link JsonElement}.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull List<@NotNull Scope> fromStepScopes;
+    /**
+     * The scope of each step run while reading from a {@link JsonReader}.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull List<@NotNull Scope> readStepScopes;
+    /**
+     * The scope of each step run before {@link #writer} while writing to a {@link JsonWriter}.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull List<@NotNull Scope> writeStepScopes;
+    /**
+     * The scope of {@link #writer}, which is the last step run while writing to a {@link JsonWriter}.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull Scope writerScope;
+
+    /**
+     * Converts from a value of type {@code T} to a {@link JsonElement}.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull FallibleFunction<@NotNull Object, @NotNull Object, ScopedException> into;
+    /**
+     * Converts from a {@link JsonElement} to a value of type {@code T}.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull FallibleFunction<@NotNull Object, @NotNull Object, ScopedException> from;
+    /**
+     * Reads a value of type {@code T} from a {@link JsonReader}.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull FallibleFunction<@NotNull JsonReader, @NotNull Object, ScopedException> read;
+    /**
+     * Writes a value of type {@code T} to a {@link JsonWriter}.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull FallibleBiConsumer<@NotNull JsonWriter, @NotNull Object, ScopedException> write;
+
+    /**
+     * The shape of this converter.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull Shape shape;
+
+    /**
+     * Creates a new {@link FusedJsonConverter}.
+     *
+     * @param intoSteps The steps run while converting into a {@link JsonElement}.
+     * @param fromSteps The steps run while converting from a {@link JsonElement}.
+     * @param readSteps The steps run while reading from a {@link JsonReader}.
+     * @param writeSteps The steps run before the given writer while writing to a {@link JsonWriter}.
+     * @param writer Writes the result of the given write steps to a {@link JsonWriter}.
+     * @param shape The shape of this converter.
+     *
+     * @since 0.1.0
+     */
+    FusedJsonConverter(
+        final @NotNull List<@NotNull Step> intoSteps,
+        final @NotNull List<@NotNull Step> fromSteps,
+        final @NotNull List<@NotNull Step> readSteps,
+        final @NotNull List<@NotNull Step> writeSteps,
+        final @NotNull FallibleBiConsumer<@NotNull JsonWriter, @NotNull Object, ? extends Exception> writer,
+        final @NotNull Shape shape
+    )
+    {
+        this.intoSteps = List.copyOf(intoSteps);
+        this.fromSteps = List.copyOf(fromSteps);
+        this.readSteps = List.copyOf(readSteps);
+        this.writeSteps = List.copyOf(writeSteps);
+        this.writer = writer;
+        this.intoStepScopes = this.createStepScopes(Method.INTO, this.intoSteps);
+        this.fromStepScopes = this.createStepScopes(Method.FROM, this.fromSteps);
+        this.readStepScopes = this.createStepScopes(Method.FROM, this.readSteps);
+        this.writeStepScopes = this.createStepScopes(Method.INTO, this.writeSteps);
+        this.writerScope = this.createScope(Step.context(Method.INTO, Step.CONVERSION, this.writeSteps.size()));
+        this.into = value -> this.runSteps(this.intoSteps, this.intoStepScopes, value);
+        this.from = value -> this.runSteps(this.fromSteps, this.fromStepScopes, value);
+        this.read = reader -> this.runSteps(this.readSteps, this.readStepScopes, reader);
+        this.write = (output, value) -> {
+            final @NotNull Object converted = this.runSteps(this.writeSteps, this.writeStepScopes, value);
+
+            try {
+                this.writer.accept(output, converted);
+            } catch (final @NotNull Exception exception) {
+                throw this.stepFailure(this.writerScope, exception);
+            }
+        };
+        this.shape = shape;
+    }
+
+    @Override
+    public @NotNull JsonElement into(final @NotNull T value)
+        throws @NotNull ScopedException
+    {
+        return (JsonElement) this.runScoped(this.intoScope, this.into, value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @NotNull T from(final @NotNull JsonElement value)
+        throws @NotNull ScopedException
+    {
+        return (T) this.runScoped(this.fromScope, this.from, value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @NotNull T read(final @NotNull JsonReader reader)
+        throws @NotNull ScopedException
+    {
+        return (T) this.runScoped(this.fromScope, this.read, reader);
+    }
+
+    @Override
+    public void write(final @NotNull JsonWriter writer, final @NotNull T value)
+        throws @NotNull ScopedException
+    {
+        this.runScoped(this.intoScope, this.write, writer, value);
+    }
+
+    @Override
+    public @NotNull Result<@NotNull JsonElement> tryInto(final @NotNull T value) {
+        if (this.isEnforcingBudget()) return super.tryInto(value);
+
+        return this.attemptSteps(this.intoScope, this.intoSteps, this.intoStepScopes, 0, value);
+    }
+
+    @Override
+    public @NotNull Result<@NotNull T> tryFrom(final @NotNull JsonElement value) {
+        if (this.isEnforcingBudget()) return super.tryFrom(value);
+
+        return this.attemptSteps(this.fromScope, this.fromSteps, this.fromStepScopes, 0, value);
+    }
+
+    @Override
+    public @NotNull Report<@NotNull T> tryFromAll(final @NotNull JsonElement value) {
+        if (this.isEnforcingBudget()) return super.tryFromAll(value);
+
+        return this.reportSteps(this.fromScope, this.fromSteps, this.fromStepScopes, value);
+    }
+
+    @Override
+    public @NotNull Shape shape() {
+        return this.shape;
+    }
+
+    @Override
+    @NotNull List<@NotNull Step> intoSteps() {
+        return this.intoSteps;
+    }
+
+    @Override
+    @NotNull List<@NotNull Step> fromSteps() {
+        return this.fromSteps;
+    }
+
+    @Override
+    @NotNull List<@NotNull Step> readSteps() {
+        return this.readSteps;
+    }
+
+    @Override
+    @NotNull List<@NotNull Step> writeSteps() {
+        return this.writeSteps;
+    }
+
+    @Override
+    @NotNull FallibleBiConsumer<@NotNull JsonWriter, @NotNull Object, ? extends Exception> writeFunction() {
+        return this.writer;
+    }
+
+}
@@ -0,0 +1,42 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2025 Jaxydog
+ *
+ * This file is part of Ochre.
+ *
+ * Ochre is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Ochre is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Ochre. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.ochre.converter;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Requests that a {@link JsonConverter} be generated for the annotated record or class at compile time.
+ * <p>
+ * This annotation is processed by Ochre's annotation processor, which must be added to the annotation processor path
+ * of the project that uses it. For a type named {@code Example}, the processor generates a {@code ExampleJsonConverter}
+ * class within the same package, whose {@code INSTANCE} field holds the converter. Nested types are named after each of
+ * their enclosing types, joined by underscores, such as {@code Outer_InnerJsonConverter}.
+ * <p>
+ * Each record component, or each non-static field of a class, is converted as a member of a JSON object under its own
+ * name. Classes must declare a constructor whose parameters match their fields in order. Members may be primitives,
+ * boxed primitives, strings, numbers, identifiers, enums, fastutil {@code IntList}, {@code LongList} and
+ * {@code DoubleList} values, other annotated types, and lists or string-keyed maps of any of these.
+ *
+ * @author Jaxydog
+ * @since 0.1.0
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateJsonConverter { }
@@ -0,0 +1,367 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2025 Jaxydog
+ *
+ * This file is part of Ochre.
+ *
+ * Ochre is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Ochre is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Ochre. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.ochre.converter;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import dev.jaxydog.ochre.utility.FallibleBiConsumer;
+import dev.jaxydog.ochre.utility.FallibleFunction;
+import dev.jaxydog.ochre.utility.Result;
+import dev.jaxydog.ochre.utility.ScopedException;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+
+/**
+ * A {@link JsonConverter} for integer values that provides methods for converting unboxed values.
+ * <p>
+ * Conversions do not enter a scope unless they fail, as they cannot contain any nested conversions.
+ *
+ * @author Jaxydog
+ * @since 0.1.0
+ */
+public final class IntJsonConverter
+    extends JsonConverter<Integer>
+{
+
+    /**
+     * A handle for {@link #intList}, used to publish it atomically.
+     *
+     * @since 0.1.0
+     */
+    private static final @NotNull VarHandle INT_LIST =
+        JsonConverter.memoHandle(MethodHandles.lookup(), "intList", JsonConverter.class);
+
+    /**
+     * The scope used while converting into a {@link JsonElement}.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull Scope intoScope = this.createScope(Method.INTO.context());
+    /**
+     * The scope used while converting from a {@link JsonElement}.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull Scope fromScope = this.createScope(Method.FROM.context());
+
+    /**
+     * This converter's list converter, created on first access.
+     *
+     * @since 0.1.0
+     */
+    private volatile @Nullable JsonConverter<IntList> intList;
+
+    /**
+     * Creates a new {@link IntJsonConverter}.
+     *
+     * @since 0.1.0
+     */
+    IntJsonConverter() { }
+
+    /**
+     * Converts from an integer into a {@link JsonElement}.
+     *
+     * @param value The value to convert.
+     *
+     * @return The converted value.
+     *
+     * @since 0.1.0
+     */
+    public @NotNull JsonElement into(final int value) {
+        return new JsonPrimitive(value);
+    }
+
+    /**
+     * Converts from a {@link JsonElement} into an integer.
+     *
+     * @param value The value to convert.
+     *
+     * @return The converted value.
+     *
+     * @throws ScopedException If the conversion fails.
+     * @since 0.1.0
+     */
+    public int intFrom(final @NotNull JsonElement value)
+        throws @NotNull ScopedException
+    {
+        try {
+            return value.getAsNumber().intValue();
+        } catch (final @NotNull RuntimeException exception) {
+            throw this.scopedFailure(this.fromScope, exception);
+        }
+    }
+
+    /**
+     * Reads an integer from the given reader.
+     *
+     * @param reader The reader.
+     *
+     * @return The integer.
+     *
+     * @throws ScopedException If the value could not be read.
+     * @since 0.1.0
+     */
+    public int readInt(final @NotNull JsonReader reader)
+        throws @NotNull ScopedException
+    {
+        try {
+            return JsonNumbers.nextInt(reader);
+        } catch (final @NotNull IOException | RuntimeException exception) {
+            throw this.scopedFailure(this.fromScope, exception);
+        }
+    }
+
+    /**
+     * Writes the given integer to the given writer.
+     *
+     * @param writer The writer.
+     * @param value The value to write.
+     *
+     * @throws ScopedException If the value could not be written.
+     * @since 0.1.0
+     */
+    public void write(final @NotNull JsonWriter writer, final int value)
+        throws @NotNull ScopedException
+    {
+        try {
+            writer.value(value);
+        } catch (final @NotNull IOException | RuntimeException exception) {
+            throw this.scopedFailure(this.intoScope, exception);
+        }
+    }
+
+    /**
+     * Returns a {@link JsonConverter} that converts to and from a list of integers.
+     * <p>
+     * Unlike {@link #list()}, the list's values are stored without boxing. Each value is converted without entering a
+     * scope unless it fails. The converter is created on first access, and the same instance is returned by every later
+     * call.
+     *
+     * @return A {@link JsonConverter}.
+     *
+     * @since 0.1.0
+     */
+    public @NotNull JsonConverter<IntList> intList() {
+        final @Nullable JsonConverter<IntList> list = this.intList;
+
+        if (Objects.nonNull(list)) return list;
+
+        return JsonConverter.memoize(IntJsonConverter.INT_LIST, this, this.createIntList());
+    }
+
+    /**
+     * Creates a new {@link JsonConverter} that converts to and from a list of integers.
+     *
+     * @return A new {@link JsonConverter}.
+     *
+     * @since 0.1.0
+     */
+    private @NotNull JsonConverter<IntList> createIntList() {
+        final @NotNull IntJsonConverter converter = this;
+        final @NotNull Shape shape = Shape.of(Shape.Kind.LIST, this);
+
+        return new JsonConverter<>() {
+
+            private final @NotNull Scope arrayConstruction =
+                this.createScope(Method.INTO.context("array construction"));
+            private final @NotNull Scope intoElement = this.createScope(Method.INTO.context("element conversion"));
+            private final @NotNull Scope arrayResolution = this.createScope(Method.FROM.context("array resolution"));
+            private final @NotNull Scope listConstruction = this.createScope(Method.FROM.context("list construction"));
+            private final @NotNull Scope fromElement = this.createScope(Method.FROM.context("element conversion"));
+
+            private final @NotNull FallibleFunction<IntList, JsonArray, ScopedException> constructArray =
+                this::constructArray;
+            private final @NotNull FallibleFunction<JsonArray, IntList, ScopedException> constructList =
+                this::constructList;
+            private final @NotNull FallibleBiConsumer<JsonWriter, IntList, IOException> writeArray = this::writeArray;
+            private final @NotNull FallibleFunction<JsonReader, IntList, IOException> readList = this::readList;
+
+            @Override
+            public @NotNull Shape shape() {
+                return shape;
+            }
+
+            @Override
+            public @NotNull JsonElement into(@NotNull IntList value)
+                throws @NotNull ScopedException
+            {
+                return this.runScoped(this.arrayConstruction, this.constructArray, value);
+            }
+
+            @Override
+            public @NotNull IntList from(@NotNull JsonElement value)
+                throws @NotNull ScopedException
+            {
+                final @NotNull JsonArray array =
+                    this.runScoped(this.arrayResolution, JsonElement::getAsJsonArray, value);
+
+                return this.runScoped(this.listConstruction, this.constructList, array);
+            }
+
+            @Override
+            public @NotNull IntList read(final @NotNull JsonReader reader)
+                throws @NotNull ScopedException
+            {
+                return this.runScoped(this.listConstruction, this.readList, reader);
+            }
+
+            @Override
+            public void write(final @NotNull JsonWriter writer, final @NotNull IntList value)
+                throws @NotNull ScopedException
+            {
+                this.runScoped(this.arrayConstruction, this.writeArray, writer, value);
+            }
+
+            private @NotNull JsonArray constructArray(final @NotNull IntList value)
+                throws @NotNull ScopedException
+            {
+                final int size = value.size();
+
+                this.consumeBudget(this.arrayConstruction, size);
+
+                final @NotNull JsonArray array = new JsonArray(size);
+
+                for (int index = 0; index < size; index += 1) {
+                    array.add(converter.into(value.getInt(index)));
+                }
+
+                return array;
+            }
+
+            private @NotNull IntList constructList(final @NotNull JsonArray array)
+                throws @NotNull ScopedException
+            {
+                final int size = array.size();
+
+                this.consumeBudget(this.listConstruction, size);
+
+                final int @NotNull [] values = new int[size];
+
+                for (int index = 0; index < size; index += 1) {
+                    try {
+                        values[index] = converter.intFrom(array.get(index));
+                    } catch (final @NotNull ScopedException exception) {
+                        throw this.scopedFailure(this.fromElement, exception, index);
+                    }
+                }
+
+                return IntArrayList.wrap(values);
+            }
+
+            private void writeArray(final @NotNull JsonWriter writer, final @NotNull IntList value)
+                throws @NotNull IOException, @NotNull ScopedException
+            {
+                final int size = value.size();
+
+                this.consumeBudget(this.arrayConstruction, size);
+
+                writer.beginArray();
+
+                for (int index = 0; index < size; index += 1) {
+                    try {
+                        converter.write(writer, value.getInt(index));
+                    } catch (final @NotNull ScopedException exception) {
+                        throw this.scopedFailure(this.intoElement, exception, index);
+                    }
+                }
+
+                writer.endArray();
+            }
+
+            private @NotNull IntList readList(final @NotNull JsonReader reader)
+                throws @NotNull IOException, @NotNull ScopedException
+            {
+                reader.beginArray();
+
+                final @NotNull IntList list = new IntArrayList();
+
+                for (int index = 0; reader.hasNext(); index += 1) {
+                    this.consumeBudget(this.listConstruction, 1);
+
+                    try {
+                        list.add(converter.readInt(reader));
+                    } catch (final @NotNull ScopedException exception) {
+                        throw this.scopedFailure(this.fromElement, exception, index);
+                    }
+                }
+
+                reader.endArray();
+
+                return list;
+            }
+
+        };
+    }
+
+    @Override
+    public @NotNull JsonElement into(final @NotNull Integer value)
+        throws @NotNull ScopedException
+    {
+        return this.into(value.intValue());
+    }
+
+    @Override
+    public @NotNull Integer from(final @NotNull JsonElement value)
+        throws @NotNull ScopedException
+    {
+        return this.intFrom(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Numbers are converted without throwing, as are objects and nulls, which always fail. Other values are converted
+     * using {@link #from(JsonElement)}, which may throw internally if they are not valid.
+     *
+     * @since 0.1.0
+     */
+    @Override
+    public @NotNull Result<@NotNull Integer> tryFrom(final @NotNull JsonElement value) {
+        final @Nullable Number number = JsonNumbers.numberOf(value);
+
+        if (Objects.nonNull(number)) {
+            return Result.success(number.intValue());
+        } else if (JsonNumbers.isNeverNumber(value)) {
+            return this.failedResult(this.fromScope, JsonConverter.unsupported(value));
+        }
+
+        return super.tryFrom(value);
+    }
+
+    @Override
+    public @NotNull Integer read(final @NotNull JsonReader reader)
+        throws @NotNull ScopedException
+    {
+        return this.readInt(reader);
+    }
+
+    @Override
+    public void write(final @NotNull JsonWriter writer, final @NotNull Integer value)
+        throws @NotNull ScopedException
+    {
+        this.write(writer, value.intValue());
+    }
+
+}
@@ -17,20 +17,43 @@ package dev.jaxydog.ochre.converter;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import dev.jaxydog.ochre.utility.FallibleBiConsumer;
+import dev.jaxydog.ochre.utility.FallibleFunction;
+import dev.jaxydog.ochre.utility.Report;
+import dev.jaxydog.ochre.utility.Result;
 import dev.jaxydog.ochre.utility.ScopedException;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import net.minecraft.util.Identifier;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.VarHandle;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
 
 /**
  * Converts values of type {@code T} to and from {@link JsonElement} values.
+ * <p>
+ * Values may also be read from a {@link JsonReader} and written to a {@link JsonWriter} directly. By default this goes
+ * through an intermediate {@link JsonElement}, but the built-in converters and those returned by {@link #list()} and
+ * {@link #map()} stream their values without building a tree.
  *
  * @param <T> The type being converted.
  *
@@ -41,6 +64,71 @@ public abstract class JsonConverter<T>
     extends Converter<T, JsonElement>
 {
 
+    /**
+     * Parses a single {@link JsonElement} from a {@link JsonReader}.
+     *
+     * @since 0.1.0
+     */
+    private static final @NotNull FallibleFunction<JsonReader, JsonElement, RuntimeException> PARSE_ELEMENT =
+        JsonParser::parseReader;
+    /**
+     * Writes a single {@link JsonElement} to a {@link JsonWriter}.
+     *
+     * @since 0.1.0
+     */
+    private static final @NotNull FallibleBiConsumer<JsonWriter, JsonElement, IOException> WRITE_ELEMENT =
+        JsonConverter::writeElement;
+
+    /**
+     * The number of chunks that each thread of the common {@link ForkJoinPool} is given during parallel conversions.
+     * <p>
+     * Using several chunks per thread allows faster threads to take over work from slower ones.
+     *
+     * @since 0.1.0
+     */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    /**
+     * A handle for {@link #list}, used to publish it atomically.
+     *
+     * @since 0.1.0
+     */
+    private static final @NotNull VarHandle LIST =
+        JsonConverter.memoHandle(MethodHandles.lookup(), "list", JsonConverter.class);
+    /**
+     * A handle for {@link #map}, used to publish it atomically.
+     *
+     * @since 0.1.0
+     */
+    private static final @NotNull VarHandle MAP =
+        JsonConverter.memoHandle(MethodHandles.lookup(), "map", JsonConverter.class);
+
+    /**
+     * The scope used while reading a value's tree from a stream, created on first use.
+     *
+     * @since 0.1.0
+     */
+    private volatile @Nullable Scope treeReading;
+    /**
+     * The scope used while writing a value's tree to a stream, created on first use.
+     *
+     * @since 0.1.0
+     */
+    private volatile @Nullable Scope treeWriting;
+
+    /**
+     * This converter's list converter, created on first access.
+     *
+     * @since 0.1.0
+     */
+    private volatile @Nullable JsonConverter<List<@NotNull T>> list;
+    /**
+     * This converter's map converter, created on first access.
+     *
+     * @since 0.1.0
+     */
+    private volatile @Nullable JsonConverter<Map<@NotNull String, @NotNull T>> map;
+
     /**
      * Creates a new {@link JsonConverter}.
      *
@@ -48,48 +136,172 @@ public abstract class JsonConverter<T>
      */
     protected JsonConverter() { }
 
+    /**
+     * Creates a new {@link JsonConverter}.
+     *
+     * @param omitStackTraces Whether exceptions thrown by this converter omit their stack traces.
+     *
+     * @since 0.1.0
+     */
+    protected JsonConverter(final boolean omitStackTraces) {
+        super(omitStackTraces);
+    }
+
+    /**
+     * Returns a {@link JsonConverter} that delegates to the given {@link Converter}.
+     *
+     * @param converter The converter.
+     * @param <T> The type being converted.
+     *
+     * @return The given converter if it is already a {@link JsonConverter}, otherwise a new {@link JsonConverter}.
+     *
+     * @since 0.1.0
+     */
+    public static <T> @NotNull JsonConverter<T> of(final @NotNull Converter<T, JsonElement> converter) {
+        if (converter instanceof final @NotNull JsonConverter<T> jsonConverter) return jsonConverter;
+
+        return new JsonConverter<>() {
+
+            @Override
+            public @NotNull Shape shape() {
+                return converter.shape();
+            }
+
+            @Override
+            public @NotNull JsonElement into(@NotNull T value)
+                throws @NotNull ScopedException
+            {
+                return converter.into(value);
+            }
+
+            @Override
+            public @NotNull T from(@NotNull JsonElement value)
+                throws @NotNull ScopedException
+            {
+                return converter.from(value);
+            }
+
+        };
+    }
+
+    /**
+     * Returns a {@link JsonConverter} for the given record class, converting each of its components to and from a JSON
+     * object member of the same name.
+     * <p>
+     * The converter is derived on first use and cached for the class, so the same instance is returned by every later
+     * call. Components are accessed through method handles rather than reflection.
+     *
+     * @param type The record class.
+     * @param <R> The record type.
+     *
+     * @return A {@link JsonConverter}.
+     *
+     * @throws IllegalArgumentException If the record cannot be accessed or has a component that cannot be converted.
+     * @since 0.1.0
+     */
+    public static <R extends Record> @NotNull RecordJsonConverter<R> ofRecord(final @NotNull Class<R> type)
+        throws @NotNull IllegalArgumentException
+    {
+        return RecordJsonConverter.of(type);
+    }
+
+    /**
+     * Returns a {@link JsonConverter} for the given enum class, converting constants to and from their names.
+     * <p>
+     * The converter resolves names exactly and has no aliases; see {@link EnumJsonConverter#ignoringCase()} and
+     * {@link EnumJsonConverter#withAlias(String, Enum)}. The same instance is returned by every call for a class.
+     *
+     * @param type The enum class.
+     * @param <E> The enum type.
+     *
+     * @return A {@link JsonConverter}.
+     *
+     * @since 0.1.0
+     */
+    public static <E extends Enum<E>> @NotNull EnumJsonConverter<E> ofEnum(final @NotNull Class<E> type) {
+        return EnumJsonConverter.of(type);
+    }
+
+    /**
+     * Returns a {@link JsonConverter} for the given base type that has no registered subtypes.
+     * <p>
+     * Subtypes are registered through {@link PolymorphicJsonConverter#withSubtype(String, Class, JsonConverter)}, and
+     * are distinguished within JSON objects by the value of the given discriminator member.
+     *
+     * @param type The base type.
+     * @param discriminator The name of the discriminator member, such as {@code "type"}.
+     * @param <T> The base type.
+     *
+     * @return A new {@link JsonConverter}.
+     *
+     * @since 0.1.0
+     */
+    public static <T> @NotNull PolymorphicJsonConverter<T> polymorphic(
+        final @NotNull Class<T> type,
+        final @NotNull String discriminator
+    )
+    {
+        return new PolymorphicJsonConverter<>(type, discriminator, List.of());
+    }
+
     /**
      * A {@link Converter} for boolean values.
      *
      * @since 0.1.0
      */
-    public static final JsonConverter<Boolean> BOOLEAN = new JsonConverter<>() {
+    public static final BooleanJsonConverter BOOLEAN = new BooleanJsonConverter();
+
+    /**
+     * A {@link Converter} for numeric values.
+     *
+     * @since 0.1.0
+     */
+    public static final JsonConverter<Number> NUMBER = new JsonConverter<>() {
+
+        private final @NotNull Scope intoScope = this.createScope(Method.INTO.context());
+        private final @NotNull Scope fromScope = this.createScope(Method.FROM.context());
+
+        private final @NotNull FallibleFunction<JsonReader, Number, IOException> readNumber =
+            reader -> new JsonPrimitive(reader.nextString()).getAsNumber();
+        private final @NotNull FallibleBiConsumer<JsonWriter, Number, IOException> writeNumber = JsonWriter::value;
 
         @Override
-        public @NotNull JsonElement into(final @NotNull Boolean value)
+        public @NotNull JsonElement into(@NotNull Number value)
             throws @NotNull ScopedException
         {
             return new JsonPrimitive(value);
         }
 
         @Override
-        public @NotNull Boolean from(final @NotNull JsonElement value)
+        public @NotNull Number from(@NotNull JsonElement value)
             throws @NotNull ScopedException
         {
-            return this.runScoped(Method.FROM.context(), value::getAsBoolean);
+            return this.runScoped(this.fromScope, JsonElement::getAsNumber, value);
         }
 
-    };
+        @Override
+        public @NotNull Result<@NotNull Number> tryFrom(@NotNull JsonElement value) {
+            if (value instanceof final @NotNull JsonPrimitive primitive && !primitive.isBoolean()) {
+                return Result.success(primitive.getAsNumber());
+            } else if (value.isJsonObject() || value.isJsonNull()) {
+                return this.failedResult(this.fromScope, JsonConverter.unsupported(value));
+            }
 
-    /**
-     * A {@link Converter} for numeric values.
-     *
-     * @since 0.1.0
-     */
-    public static final JsonConverter<Number> NUMBER = new JsonConverter<>() {
+            return super.tryFrom(value);
+        }
 
         @Override
-        public @NotNull JsonElement into(@NotNull Number value)
+        public @NotNull Number read(final @NotNull JsonReader reader)
             throws @NotNull ScopedException
         {
-            return new JsonPrimitive(value);
+            return this.runScoped(this.fromScope, this.readNumber, reader);
         }
 
         @Override
-        public @NotNull Number from(@NotNull JsonElement value)
+        public void write(final @NotNull JsonWriter writer, final @NotNull Number value)
             throws @NotNull ScopedException
         {
-            return this.runScoped(Method.FROM.context(), value::getAsNumber);
+            this.runScoped(this.intoScope, this.writeNumber, writer, value);
         }
 
     };
@@ -99,48 +311,42 @@ public abstract class JsonConverter<T>
      *
      * @since 0.1.0
      */
-    public static final JsonConverter<Byte> BYTE =
-        (JsonConverter<Byte>) JsonConverter.NUMBER.mapInput(Number::byteValue, v -> v);
+    public static final ByteJsonConverter BYTE = new ByteJsonConverter();
 
     /**
      * A {@link Converter} for short values.
      *
      * @since 0.1.0
      */
-    public static final JsonConverter<Short> SHORT =
-        (JsonConverter<Short>) JsonConverter.NUMBER.mapInput(Number::shortValue, v -> v);
+    public static final ShortJsonConverter SHORT = new ShortJsonConverter();
 
     /**
      * A {@link Converter} for integer values.
      *
      * @since 0.1.0
      */
-    public static final JsonConverter<Integer> INTEGER =
-        (JsonConverter<Integer>) JsonConverter.NUMBER.mapInput(Number::intValue, v -> v);
+    public static final IntJsonConverter INTEGER = new IntJsonConverter();
 
     /**
      * A {@link Converter} for long values.
      *
      * @since 0.1.0
      */
-    public static final JsonConverter<Long> LONG =
-        (JsonConverter<Long>) JsonConverter.NUMBER.mapInput(Number::longValue, v -> v);
+    public static final LongJsonConverter LONG = new LongJsonConverter();
 
     /**
      * A {@link Converter} for float values.
      *
      * @since 0.1.0
      */
-    public static final JsonConverter<Float> FLOAT =
-        (JsonConverter<Float>) JsonConverter.NUMBER.mapInput(Number::floatValue, v -> v);
+    public static final FloatJsonConverter FLOAT = new FloatJsonConverter();
 
     /**
      * A {@link Converter} for double values.
      *
      * @since 0.1.0
      */
-    public static final JsonConverter<Double> DOUBLE =
-        (JsonConverter<Double>) JsonConverter.NUMBER.mapInput(Number::doubleValue, v -> v);
+    public static final DoubleJsonConverter DOUBLE = new DoubleJsonConverter();
 
     /**
      * A {@link Converter} for string values.
@@ -149,6 +355,12 @@ public abstract class JsonConverter<T>
      */
     public static final JsonConverter<String> STRING = new JsonConverter<>() {
 
+        private final @NotNull Scope intoScope = this.createScope(Method.INTO.context());
+        private final @NotNull Scope fromScope = this.createScope(Method.FROM.context());
+
+        private final @NotNull FallibleFunction<JsonReader, String, IOException> readString = this::readString;
+        private final @NotNull FallibleBiConsumer<JsonWriter, String, IOException> writeString = JsonWriter::value;
+
         @Override
         public @NotNull JsonElement into(@NotNull String value)
             throws @NotNull ScopedException
@@ -160,7 +372,67 @@ public abstract class JsonConverter<T>
         public @NotNull String from(@NotNull JsonElement value)
             throws @NotNull ScopedException
         {
-            return this.runScoped(Method.FROM.context(), value::getAsString);
+            return this.runScoped(this.fromScope, JsonElement::getAsString, value);
+        }
+
+        @Override
+        public @NotNull Result<@NotNull String> tryFrom(@NotNull JsonElement value) {
+            if (value instanceof final @NotNull JsonPrimitive primitive) {
+                return Result.success(primitive.getAsString());
+            } else if (value.isJsonObject() || value.isJsonNull()) {
+                return this.failedResult(this.fromScope, JsonConverter.unsupported(value));
+            }
+
+            return super.tryFrom(value);
+        }
+
+        @Override
+        public @NotNull String read(final @NotNull JsonReader reader)
+            throws @NotNull ScopedException
+        {
+            return this.runScoped(this.fromScope, this.readString, reader);
+        }
+
+        @Override
+        public void write(final @NotNull JsonWriter writer, final @NotNull String value)
+            throws @NotNull ScopedException
+        {
+            this.runScoped(this.intoScope, this.writeString, writer, value);
+        }
+
+        /**
+         * Reads a string from the given reader, accepting the same values as {@link JsonElement#getAsString()}.
+         * <p>
+         * This includes arrays that hold a single such value, keeping {@link #read(JsonReader)} consistent with
+         * {@link #from(JsonElement)}.
+         *
+         * @param reader The reader.
+         *
+         * @return The string.
+         *
+         * @throws IOException If the value could not be read.
+         * @throws IllegalStateException If the value is not a primitive, or an array that holds a single value.
+         * @since 0.1.0
+         */
+        private @NotNull String readString(final @NotNull JsonReader reader)
+            throws @NotNull IOException, @NotNull IllegalStateException
+        {
+            final @NotNull JsonToken token = reader.peek();
+
+            if (token == JsonToken.BOOLEAN) return Boolean.toString(reader.nextBoolean());
+            if (token != JsonToken.BEGIN_ARRAY) return reader.nextString();
+
+            reader.beginArray();
+
+            if (!reader.hasNext()) throw new IllegalStateException("Array must have size 1, but has size 0");
+
+            final @NotNull String value = this.readString(reader);
+
+            if (reader.hasNext()) throw new IllegalStateException("Array must have size 1, but has a larger size");
+
+            reader.endArray();
+
+            return value;
         }
 
     };
@@ -171,100 +443,1646 @@ public abstract class JsonConverter<T>
      * @since 0.1.0
      */
     public static final JsonConverter<Identifier> IDENTIFIER =
-        (JsonConverter<Identifier>) JsonConverter.STRING.mapInput(Identifier::of, Identifier::toString);
+        JsonConverter.STRING.mapInput(Identifier::of, Identifier::toString);
 
     /**
-     * Creates a new {@link JsonConverter} that converts to and from a list of type {@link T}.
+     * Writes the given element to the given writer.
      *
-     * @return A new {@link JsonConverter}.
+     * @param writer The writer.
+     * @param element The element to write.
      *
+     * @throws IOException If the element could not be written.
      * @since 0.1.0
      */
-    public final @NotNull JsonConverter<List<@NotNull T>> list() {
-        final @NotNull Function<@NotNull T, @NotNull JsonElement> thisInto = this::into;
-        final @NotNull Function<@NotNull JsonElement, @NotNull T> thisFrom = this::from;
+    private static void writeElement(final @NotNull JsonWriter writer, final @NotNull JsonElement element)
+        throws @NotNull IOException
+    {
+        if (element.isJsonNull()) {
+            writer.nullValue();
+        } else if (element instanceof final @NotNull JsonPrimitive primitive) {
+            if (primitive.isBoolean()) {
+                writer.value(primitive.getAsBoolean());
+            } else if (primitive.isNumber()) {
+                writer.value(primitive.getAsNumber());
+            } else {
+                writer.value(primitive.getAsString());
+            }
+        } else if (element instanceof final @NotNull JsonArray array) {
+            writer.beginArray();
 
-        return new JsonConverter<>() {
+            for (final @NotNull JsonElement entry : array) {
+                JsonConverter.writeElement(writer, entry);
+            }
 
-            @Override
-            public @NotNull JsonElement into(@NotNull List<@NotNull T> value)
-                throws @NotNull ScopedException
-            {
-                final @NotNull JsonArray array = new JsonArray(value.size());
-                final @NotNull Scope scope = this.createScope(Method.INTO.context("array construction"));
+            writer.endArray();
+        } else {
+            final @NotNull JsonObject object = element.getAsJsonObject();
 
-                for (final @NotNull T entry : value) {
-                    array.add(this.runScoped(scope, () -> thisInto.apply(entry)));
-                }
+            writer.beginObject();
 
-                return array;
+            for (final @NotNull Entry<@NotNull String, @NotNull JsonElement> entry : object.entrySet()) {
+                writer.name(entry.getKey());
+
+                JsonConverter.writeElement(writer, entry.getValue());
             }
 
-            @Override
-            public @NotNull List<@NotNull T> from(@NotNull JsonElement value)
-                throws @NotNull ScopedException
-            {
-                final @NotNull JsonArray array =
-                    this.runScoped(Method.FROM.context("array resolution"), value::getAsJsonArray);
+            writer.endObject();
+        }
+    }
+
+    /**
+     * Runs the given action for each index below the given size, splitting the indices across the common
+     * {@link ForkJoinPool}.
+     * <p>
+     * If the action fails for any index, the failure with the lowest index is thrown, matching the failure that would
+     * have been thrown had the indices been processed in order. Indices above a known failure are skipped.
+     *
+     * @param size The number of indices.
+     * @param action The action to run for each index.
+     *
+     * @throws ScopedException If the action fails for any index.
+     * @since 0.1.0
+     */
+    private static void forEachInParallel(final int size, final @NotNull IntConsumer action)
+        throws @NotNull ScopedException
+    {
+        final int chunks = Math.min(size, ForkJoinPool.getCommonPoolParallelism() * JsonConverter.CHUNKS_PER_THREAD);
+        final @NotNull ScopedException @NotNull [] failures = new ScopedException[chunks];
+        final @NotNull AtomicInteger firstFailure = new AtomicInteger(Integer.MAX_VALUE);
 
-                final @NotNull List<@NotNull T> list = new ObjectArrayList<>(array.size());
-                final @NotNull Scope scope = this.createScope(Method.INTO.context("list construction"));
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            final int start = (int) ((long) size * chunk / chunks);
+            final int end = (int) ((long) size * (chunk + 1) / chunks);
 
-                for (final @NotNull JsonElement element : array.asList()) {
-                    list.add(this.runScoped(scope, () -> thisFrom.apply(element)));
-                }
+            for (int index = start; index < end && index < firstFailure.get(); index += 1) {
+                try {
+                    action.accept(index);
+                } catch (final @NotNull ScopedException exception) {
+                    failures[chunk] = exception;
 
-                return list;
+                    firstFailure.accumulateAndGet(index, Math::min);
+
+                    return;
+                }
             }
+        });
 
-        };
+        for (final @Nullable ScopedException failure : failures) {
+            if (Objects.nonNull(failure)) throw failure;
+        }
     }
 
     /**
-     * Creates a new {@link JsonConverter} that converts to and from a map of type {@link T}.
+     * Reads a value of type {@code T} from the given reader, consuming exactly one JSON value.
+     * <p>
+     * By default, this reads the value into a {@link JsonElement} and converts it using {@link #from(Object)}.
      *
-     * @return A new {@link JsonConverter}.
+     * @param reader The reader.
      *
+     * @return The converted value.
+     *
+     * @throws ScopedException If the value could not be read or the conversion fails.
      * @since 0.1.0
      */
-    public final @NotNull JsonConverter<Map<@NotNull String, @NotNull T>> map() {
-        final @NotNull Function<@NotNull T, @NotNull JsonElement> thisInto = this::into;
-        final @NotNull Function<@NotNull JsonElement, @NotNull T> thisFrom = this::from;
+    public @NotNull T read(final @NotNull JsonReader reader)
+        throws @NotNull ScopedException
+    {
+        final @NotNull JsonElement element = this.runScoped(this.treeReading(), JsonConverter.PARSE_ELEMENT, reader);
 
-        return new JsonConverter<>() {
+        return this.from(element);
+    }
 
-            @Override
-            public @NotNull JsonElement into(@NotNull Map<@NotNull String, @NotNull T> value)
-                throws @NotNull ScopedException
-            {
-                final @NotNull JsonObject object = new JsonObject();
-                final @NotNull Scope scope = this.createScope(Method.INTO.context("object construction"));
+    /**
+     * Writes the given value to the given writer as exactly one JSON value.
+     * <p>
+     * By default, this converts the value using {@link #into(Object)} and writes the resulting {@link JsonElement}. If
+     * the conversion fails part way through, the writer may have already received part of the value.
+     *
+     * @param writer The writer.
+     * @param value The value to write.
+     *
+     * @throws ScopedException If the conversion fails or the value could not be written.
+     * @since 0.1.0
+     */
+    public void write(final @NotNull JsonWriter writer, final @NotNull T value)
+        throws @NotNull ScopedException
+    {
+        final @NotNull JsonElement element = this.into(value);
 
-                for (final @NotNull Entry<@NotNull String, @NotNull T> entry : value.entrySet()) {
-                    object.add(entry.getKey(), this.runScoped(scope, () -> thisInto.apply(entry.getValue())));
-                }
+        this.runScoped(this.treeWriting(), JsonConverter.WRITE_ELEMENT, writer, element);
+    }
 
-                return object;
-            }
+    /**
+     * Returns a handle for the given field of the given lookup's class, which holds a value that is created on first
+     * access.
+     *
+     * @param lookup A lookup within the class that declares the field.
+     * @param name The field's name.
+     * @param type The field's type.
+     *
+     * @return The handle.
+     *
+     * @throws ExceptionInInitializerError If the field cannot be found.
+     * @since 0.1.0
+     */
+    static @NotNull VarHandle memoHandle(
+        final @NotNull Lookup lookup,
+        final @NotNull String name,
+        final @NotNull Class<?> type
+    )
+        throws @NotNull ExceptionInInitializerError
+    {
+        try {
+            return lookup.findVarHandle(lookup.lookupClass(), name, type);
+        } catch (final @NotNull ReflectiveOperationException exception) {
+            throw new ExceptionInInitializerError(exception);
+        }
+    }
 
-            @Override
-            public @NotNull Map<String, T> from(@NotNull JsonElement value)
-                throws @NotNull ScopedException
-            {
-                final @NotNull JsonObject object =
-                    this.runScoped(Method.FROM.context("object resolution"), value::getAsJsonObject);
+    /**
+     * Stores the given value in the field of the given handle if it is still unset, returning the field's value.
+     * <p>
+     * This is used instead of locking, as values created by racing threads are equivalent and only one of them is ever
+     * published. Locking on the owner would allow any code holding a shared converter to block its callers.
+     *
+     * @param handle The handle for the field.
+     * @param owner The object that holds the field.
+     * @param value The newly created value.
+     * @param <V> The type of the value.
+     *
+     * @return The published value, which may have been created by another thread.
+     *
+     * @since 0.1.0
+     */
+    @SuppressWarnings("unchecked")
+    static <V> @NotNull V memoize(
+        final @NotNull VarHandle handle,
+        final @NotNull Object owner,
+        final @NotNull V value
+    )
+    {
+        final @Nullable Object witness = handle.compareAndExchange(owner, null, value);
 
-                final @NotNull Map<String, T> map = new Object2ObjectOpenHashMap<>(object.size());
-                final @NotNull Scope scope = this.createScope(Method.FROM.context("map construction"));
+        return Objects.isNull(witness) ? value : (V) witness;
+    }
 
-                for (final @NotNull Entry<@NotNull String, @NotNull JsonElement> entry : object.entrySet()) {
-                    map.put(entry.getKey(), this.runScoped(scope, () -> thisFrom.apply(entry.getValue())));
-                }
+    /**
+     * Returns the scope used while reading a value's tree from a stream, creating it if necessary.
+     * <p>
+     * This is created on first use rather than during construction, so that this converter is never passed to its
+     * scope before a subclass has finished initializing it.
+     *
+     * @return The scope.
+     *
+     * @since 0.1.0
+     */
+    private @NotNull Scope treeReading() {
+        @Nullable Scope scope = this.treeReading;
 
-                return map;
-            }
+        if (Objects.isNull(scope)) {
+            scope = this.createScope(Method.FROM.context("tree reading"));
 
-        };
+            this.treeReading = scope;
+        }
+
+        return scope;
+    }
+
+    /**
+     * Returns the scope used while writing a value's tree to a stream, creating it if necessary.
+     *
+     * @return The scope.
+     *
+     * @since 0.1.0
+     */
+    private @NotNull Scope treeWriting() {
+        @Nullable Scope scope = this.treeWriting;
+
+        if (Objects.isNull(scope)) {
+            scope = this.createScope(Method.INTO.context("tree writing"));
+
+            this.treeWriting = scope;
+        }
+
+        return scope;
+    }
+
+    /**
+     * Reads a value of type {@code T} from the given reader, returning any failure rather than throwing it.
+     * <p>
+     * The reader's position is undefined after a failure.
+     *
+     * @param reader The reader.
+     *
+     * @return The result of the conversion.
+     *
+     * @since 0.1.0
+     */
+    public @NotNull Result<@NotNull T> tryRead(final @NotNull JsonReader reader) {
+        return this.attempt(this::read, reader);
     }
 
+    /**
+     * Converts an updated element into a value of type {@code T}, reusing the parts of a previous conversion whose
+     * elements did not change.
+     * <p>
+     * The previous value must have been converted by this converter from the previous element, and neither may have
+     * been modified since. By default, the previous value is returned if the elements are equal, as determined by
+     * {@link #equivalent(JsonElement, JsonElement)}, and the updated element is converted otherwise. The converters
+     * returned by {@link #list()} and {@link #map()}, as well as record converters, instead compare their elements
+     * individually and only convert those that changed. They return the previous value itself if none of its parts
+     * changed, and otherwise return a new value that shares its unchanged parts with the previous value.
+     * <p>
+     * This allows a reload to convert only what was edited, while comparing each element of the tree only once.
+     *
+     * @param previous The previously converted element.
+     * @param previousValue The value previously converted from that element.
+     * @param value The updated element.
+     *
+     * @return The converted value.
+     *
+     * @throws ScopedException If the conversion fails.
+     * @since 0.1.0
+     */
+    public @NotNull T reconvert(
+        final @NotNull JsonElement previous,
+        final @NotNull T previousValue,
+        final @NotNull JsonElement value
+    )
+        throws @NotNull ScopedException
+    {
+        if (JsonConverter.equivalent(previous, value)) return previousValue;
+
+        return this.from(value);
+    }
+
+    /**
+     * Returns the exception thrown when accessing the given element as a kind of element that it is not.
+     * <p>
+     * This matches the exception thrown by {@link JsonElement}'s accessors, allowing conversions to report such
+     * failures without calling them.
+     *
+     * @param value The element.
+     *
+     * @return A new exception.
+     *
+     * @since 0.1.0
+     */
+    static @NotNull UnsupportedOperationException unsupported(final @NotNull JsonElement value) {
+        return new UnsupportedOperationException(value.getClass().getSimpleName());
+    }
+
+    /**
+     * Returns whether the given updated element is a primitive or null that is equivalent to the previous element.
+     * <p>
+     * Comparing such elements takes constant time, so lists, maps, and records compare them directly when reconverting
+     * rather than entering the scope of each one. Arrays and objects are instead compared by reconverting them, so that
+     * each element is only compared once.
+     *
+     * @param previous The previous element.
+     * @param value The updated element.
+     *
+     * @return Whether the element is an unchanged primitive or null.
+     *
+     * @since 0.1.0
+     */
+    static boolean isUnchangedPrimitive(final @NotNull JsonElement previous, final @NotNull JsonElement value) {
+        return !previous.isJsonArray() && !previous.isJsonObject() && JsonConverter.equivalent(previous, value);
+    }
+
+    /**
+     * Returns a hash code for the given element that is consistent with
+     * {@link #equivalent(JsonElement, JsonElement)}.
+     *
+     * @param element The element.
+     *
+     * @return The hash code.
+     *
+     * @since 0.1.0
+     */
+    static int hash(final @NotNull JsonElement element) {
+        return switch (element) {
+            case final JsonPrimitive primitive -> {
+                yield 31 * primitive.getAsString().hashCode() + JsonConverter.kind(primitive);
+            }
+            case final JsonArray array -> {
+                int hash = 1;
+
+                for (final @NotNull JsonElement child : array) {
+                    hash = 31 * hash + JsonConverter.hash(child);
+                }
+
+                yield hash;
+            }
+            case final JsonObject object -> {
+                int hash = 0;
+
+                // Members are summed, as the order of an object's members does not affect its conversion.
+                for (final @NotNull Entry<String, JsonElement> entry : object.entrySet()) {
+                    hash += entry.getKey().hashCode() ^ JsonConverter.hash(entry.getValue());
+                }
+
+                yield hash;
+            }
+            default -> 0;
+        };
+    }
+
+    /**
+     * Returns {@code true} if the given elements are structurally equal.
+     * <p>
+     * Unlike {@link JsonElement#equals(Object)}, primitives are compared by their literal text rather than their
+     * numeric value, so numbers such as {@code 1} and {@code 1.0}, or large integers that share a {@code double}
+     * approximation, are never considered equal. Object members are compared regardless of their order.
+     *
+     * @param first The first element.
+     * @param second The second element.
+     *
+     * @return Whether the elements are equal.
+     *
+     * @since 0.1.0
+     */
+    static boolean equivalent(final @NotNull JsonElement first, final @NotNull JsonElement second) {
+        if (first == second) return true;
+
+        return switch (first) {
+            case final JsonPrimitive primitive when second instanceof final @NotNull JsonPrimitive other -> {
+                yield JsonConverter.kind(primitive) == JsonConverter.kind(other)
+                    && primitive.getAsString().equals(other.getAsString());
+            }
+            case final JsonArray array when second instanceof final @NotNull JsonArray other -> {
+                if (array.size() != other.size()) yield false;
+
+                for (int index = 0; index < array.size(); index += 1) {
+                    if (!JsonConverter.equivalent(array.get(index), other.get(index))) yield false;
+                }
+
+                yield true;
+            }
+            case final JsonObject object when second instanceof final @NotNull JsonObject other -> {
+                if (object.size() != other.size()) yield false;
+
+                final @NotNull Iterator<Entry<String, JsonElement>> others = other.entrySet().iterator();
+
+                for (final @NotNull Entry<String, JsonElement> entry : object.entrySet()) {
+                    final @Nullable JsonElement member = JsonConverter.member(other, others, entry.getKey());
+
+                    if (Objects.isNull(member) || !JsonConverter.equivalent(entry.getValue(), member)) {
+                        yield false;
+                    }
+                }
+
+                yield true;
+            }
+            default -> first.isJsonNull() && second.isJsonNull();
+        };
+    }
+
+    /**
+     * Returns the member of the given object with the given key, which is expected to be the next member of the
+     * given iterator.
+     * <p>
+     * Looking up a member of a {@link JsonObject} by key requires a tree search, which is skipped when the object's
+     * members are in the same order as those being compared to it.
+     *
+     * @param object The object.
+     * @param members An iterator over the object's members.
+     * @param key The key.
+     *
+     * @return The member, or {@code null} if the object has no member with the given key.
+     *
+     * @since 0.1.0
+     */
+    static @Nullable JsonElement member(
+        final @NotNull JsonObject object,
+        final @NotNull Iterator<Entry<String, JsonElement>> members,
+        final @NotNull String key
+    )
+    {
+        if (members.hasNext()) {
+            final @NotNull Entry<String, JsonElement> next = members.next();
+
+            if (next.getKey().equals(key)) return next.getValue();
+        }
+
+        return object.get(key);
+    }
+
+    /**
+     * Returns a number identifying the kind of value held by the given primitive.
+     *
+     * @param primitive The primitive.
+     *
+     * @return {@code 0} for booleans, {@code 1} for numbers, or {@code 2} for strings.
+     *
+     * @since 0.1.0
+     */
+    private static int kind(final @NotNull JsonPrimitive primitive) {
+        if (primitive.isBoolean()) return 0;
+
+        return primitive.isNumber() ? 1 : 2;
+    }
+
+    /**
+     * Returns the steps used when composing this converter's {@link #read(JsonReader)} method with another converter.
+     *
+     * @return The steps, in the order that they are run.
+     *
+     * @since 0.1.0
+     */
+    @NotNull List<@NotNull Step> readSteps() {
+        final @NotNull FallibleFunction<@NotNull JsonReader, @NotNull T, ScopedException> read = this::read;
+
+        return List.of(Step.conversion(read, this::tryRead, null));
+    }
+
+    /**
+     * Returns the steps run before {@link #writeFunction()} when composing this converter's
+     * {@link #write(JsonWriter, Object)} method with another converter.
+     *
+     * @return The steps, in the order that they are run.
+     *
+     * @since 0.1.0
+     */
+    @NotNull List<@NotNull Step> writeSteps() {
+        return List.of();
+    }
+
+    /**
+     * Returns the function run after {@link #writeSteps()} when composing this converter's
+     * {@link #write(JsonWriter, Object)} method with another converter.
+     *
+     * @return The function.
+     *
+     * @since 0.1.0
+     */
+    @SuppressWarnings("unchecked")
+    @NotNull FallibleBiConsumer<@NotNull JsonWriter, @NotNull Object, ? extends Exception> writeFunction() {
+        return (writer, value) -> this.write(writer, (T) value);
+    }
+
+    /**
+     * Returns a new {@link JsonConverter} that runs the given steps before this converter within a single scope.
+     *
+     * @param previousInto The steps that convert a value of type {@code S} to a value of type {@code T}.
+     * @param previousFrom The steps that convert a value of type {@code T} to a value of type {@code S}.
+     * @param shape The shape of the new converter.
+     * @param <S> The new input type.
+     *
+     * @return A new {@link JsonConverter}.
+     *
+     * @since 0.1.0
+     */
+    private <S> @NotNull JsonConverter<S> fuse(
+        final @NotNull List<@NotNull Step> previousInto,
+        final @NotNull List<@NotNull Step> previousFrom,
+        final @NotNull Shape shape
+    )
+    {
+        return new FusedJsonConverter<>(
+            Step.concat(previousInto, this.intoSteps()),
+            Step.concat(this.fromSteps(), previousFrom),
+            Step.concat(this.readSteps(), previousFrom),
+            Step.concat(previousInto, this.writeSteps()),
+            this.writeFunction(),
+            shape
+        );
+    }
+
+    @Override
+    public final <S> @NotNull JsonConverter<S> compose(final @NotNull Converter<S, T> previous) {
+        return this.fuse(previous.intoSteps(), previous.fromSteps(), Shape.composition(previous, this));
+    }
+
+    @Override
+    public final <V> @NotNull JsonConverter<V> mapInput(
+        final @NotNull Function<@NotNull T, @NotNull V> into,
+        final @NotNull Function<@NotNull V, @NotNull T> from
+    )
+    {
+        return this.fuse(List.of(Step.mapping(from)), List.of(Step.mapping(into)), Shape.composition(null, this));
+    }
+
+    @Override
+    public final @NotNull JsonConverter<T> stackless() {
+        final @NotNull FallibleFunction<@NotNull T, @NotNull JsonElement, ScopedException> thisInto = this::into;
+        final @NotNull FallibleFunction<@NotNull JsonElement, @NotNull T, ScopedException> thisFrom = this::from;
+        final @NotNull FallibleFunction<@NotNull JsonReader, @NotNull T, ScopedException> thisRead = this::read;
+        final @NotNull FallibleBiConsumer<@NotNull JsonWriter, @NotNull T, ScopedException> thisWrite = this::write;
+        final @NotNull Shape shape = Shape.of(Shape.Kind.STACKLESS, this);
+
+        return new JsonConverter<>(true) {
+
+            private final @NotNull Scope intoScope = this.createScope(Method.INTO.context("stackless conversion"));
+            private final @NotNull Scope fromScope = this.createScope(Method.FROM.context("stackless conversion"));
+
+            @Override
+            public @NotNull Shape shape() {
+                return shape;
+            }
+
+            @Override
+            public @NotNull JsonElement into(@NotNull T value)
+                throws @NotNull ScopedException
+            {
+                return this.runScoped(this.intoScope, thisInto, value);
+            }
+
+            @Override
+            public @NotNull T from(@NotNull JsonElement value)
+                throws @NotNull ScopedException
+            {
+                return this.runScoped(this.fromScope, thisFrom, value);
+            }
+
+            @Override
+            public @NotNull T read(final @NotNull JsonReader reader)
+                throws @NotNull ScopedException
+            {
+                return this.runScoped(this.fromScope, thisRead, reader);
+            }
+
+            @Override
+            public void write(final @NotNull JsonWriter writer, final @NotNull T value)
+                throws @NotNull ScopedException
+            {
+                this.runScoped(this.intoScope, thisWrite, writer, value);
+            }
+
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A stream cannot be rewound, so reading from and writing to a stream always run with scopes enabled.
+     *
+     * @return A new {@link JsonConverter}.
+     *
+     * @since 0.1.0
+     */
+    @Override
+    public final @NotNull JsonConverter<T> optimistic() {
+        final @NotNull FallibleFunction<@NotNull T, @NotNull JsonElement, ScopedException> thisInto = this::into;
+        final @NotNull FallibleFunction<@NotNull JsonElement, @NotNull T, ScopedException> thisFrom = this::from;
+        final @NotNull FallibleFunction<@NotNull JsonReader, @NotNull T, ScopedException> thisRead = this::read;
+        final @NotNull FallibleBiConsumer<@NotNull JsonWriter, @NotNull T, ScopedException> thisWrite = this::write;
+        final @NotNull Shape shape = Shape.of(Shape.Kind.OPTIMISTIC, this);
+
+        return new JsonConverter<>() {
+
+            private final @NotNull Scope intoScope = this.createScope(Method.INTO.context("optimistic conversion"));
+            private final @NotNull Scope fromScope = this.createScope(Method.FROM.context("optimistic conversion"));
+
+            @Override
+            public @NotNull Shape shape() {
+                return shape;
+            }
+
+            @Override
+            public @NotNull JsonElement into(@NotNull T value)
+                throws @NotNull ScopedException
+            {
+                return this.runOptimistic(this.intoScope, thisInto, value);
+            }
+
+            @Override
+            public @NotNull T from(@NotNull JsonElement value)
+                throws @NotNull ScopedException
+            {
+                return this.runOptimistic(this.fromScope, thisFrom, value);
+            }
+
+            @Override
+            public @NotNull T read(final @NotNull JsonReader reader)
+                throws @NotNull ScopedException
+            {
+                return this.runScoped(this.fromScope, thisRead, reader);
+            }
+
+            @Override
+            public void write(final @NotNull JsonWriter writer, final @NotNull T value)
+                throws @NotNull ScopedException
+            {
+                this.runScoped(this.intoScope, thisWrite, writer, value);
+            }
+
+        };
+    }
+
+    /**
+     * Returns a new {@link CachingJsonConverter} that wraps this converter, caching up to the given number of values
+     * converted from JSON.
+     * <p>
+     * This is useful when identical elements are converted repeatedly, such as fragments that are repeated across
+     * files or unchanged between reloads. Cached values are shared, so this converter's values should be immutable.
+     *
+     * @param capacity The maximum number of cached values.
+     *
+     * @return A new {@link CachingJsonConverter}.
+     *
+     * @throws IllegalArgumentException If the capacity is not positive.
+     * @since 0.1.0
+     */
+    public final @NotNull CachingJsonConverter<T> cached(final int capacity)
+        throws @NotNull IllegalArgumentException
+    {
+        return new CachingJsonConverter<>(this, capacity);
+    }
+
+    /**
+     * Returns a {@link JsonConverter} that converts to and from a list of type {@link T}.
+     * <p>
+     * The converter is created on first access, and the same instance is returned by every later call.
+     *
+     * @return A {@link JsonConverter}.
+     *
+     * @since 0.1.0
+     */
+    public final @NotNull JsonConverter<List<@NotNull T>> list() {
+        final @Nullable JsonConverter<List<@NotNull T>> list = this.list;
+
+        if (Objects.nonNull(list)) return list;
+
+        return JsonConverter.memoize(JsonConverter.LIST, this, this.createList());
+    }
+
+    /**
+     * Creates a new {@link JsonConverter} that converts to and from a list of type {@link T}.
+     *
+     * @return A new {@link JsonConverter}.
+     *
+     * @since 0.1.0
+     */
+    private @NotNull JsonConverter<List<@NotNull T>> createList() {
+        final @NotNull FallibleFunction<@NotNull T, @NotNull JsonElement, ScopedException> thisInto = this::into;
+        final @NotNull FallibleFunction<@NotNull JsonElement, @NotNull T, ScopedException> thisFrom = this::from;
+        final @NotNull FallibleFunction<@NotNull JsonReader, @NotNull T, ScopedException> thisRead = this::read;
+        final @NotNull FallibleBiConsumer<@NotNull JsonWriter, @NotNull T, ScopedException> thisWrite = this::write;
+        final @NotNull Function<@NotNull T, @NotNull Result<@NotNull JsonElement>> thisTryInto = this::tryInto;
+        final @NotNull Function<@NotNull JsonElement, @NotNull Result<@NotNull T>> thisTryFrom = this::tryFrom;
+        final @NotNull Function<@NotNull JsonElement, @NotNull Report<@NotNull T>> thisTryFromAll = this::tryFromAll;
+        final @NotNull FallibleFunction<@NotNull Revision<T>, @NotNull T, ScopedException> thisReconvert =
+            revision -> this.reconvert(revision.previous(), revision.previousValue(), revision.value());
+        final @NotNull Shape shape = Shape.of(Shape.Kind.LIST, this);
+
+        return new JsonConverter<>() {
+
+            private final @NotNull Scope arrayConstruction =
+                this.createScope(Method.INTO.context("array construction"));
+            private final @NotNull Scope intoElement = this.createScope(Method.INTO.context("element conversion"));
+            private final @NotNull Scope arrayResolution = this.createScope(Method.FROM.context("array resolution"));
+            private final @NotNull Scope listConstruction = this.createScope(Method.FROM.context("list construction"));
+            private final @NotNull Scope fromElement = this.createScope(Method.FROM.context("element conversion"));
+
+            private final @NotNull FallibleFunction<List<T>, JsonArray, ScopedException> constructArray =
+                this::constructArray;
+            private final @NotNull FallibleFunction<JsonArray, List<T>, ScopedException> constructList =
+                this::constructList;
+            private final @NotNull FallibleFunction<Revision<List<T>>, List<T>, ScopedException> reconstructList =
+                this::reconstructList;
+            private final @NotNull FallibleBiConsumer<JsonWriter, List<T>, IOException> writeArray = this::writeArray;
+            private final @NotNull FallibleFunction<JsonReader, List<T>, IOException> readList = this::readList;
+
+            @Override
+            public @NotNull Shape shape() {
+                return shape;
+            }
+
+            @Override
+            public @NotNull JsonElement into(@NotNull List<@NotNull T> value)
+                throws @NotNull ScopedException
+            {
+                return this.runScoped(this.arrayConstruction, this.constructArray, value);
+            }
+
+            @Override
+            public @NotNull List<@NotNull T> from(@NotNull JsonElement value)
+                throws @NotNull ScopedException
+            {
+                final @NotNull JsonArray array =
+                    this.runScoped(this.arrayResolution, JsonElement::getAsJsonArray, value);
+
+                return this.runScoped(this.listConstruction, this.constructList, array);
+            }
+
+            @Override
+            public @NotNull List<@NotNull T> read(final @NotNull JsonReader reader)
+                throws @NotNull ScopedException
+            {
+                return this.runScoped(this.listConstruction, this.readList, reader);
+            }
+
+            @Override
+            public void write(final @NotNull JsonWriter writer, final @NotNull List<@NotNull T> value)
+                throws @NotNull ScopedException
+            {
+                this.runScoped(this.arrayConstruction, this.writeArray, writer, value);
+            }
+
+            @Override
+            public @NotNull Result<@NotNull JsonElement> tryInto(final @NotNull List<@NotNull T> value) {
+                if (this.isEnforcingBudget()) return super.tryInto(value);
+
+                final @NotNull JsonArray array = new JsonArray(value.size());
+
+                int index = 0;
+
+                for (final @NotNull T entry : value) {
+                    final @NotNull Result<@NotNull JsonElement> result = thisTryInto.apply(entry);
+
+                    if (result instanceof final Result.Failure<JsonElement> failure) {
+                        final @NotNull ScopedException error = this.enclose(this.intoElement, failure.error(), index);
+
+                        return Result.failure(this.enclose(this.arrayConstruction, error));
+                    }
+
+                    array.add(result.orThrow());
+
+                    index += 1;
+                }
+
+                return Result.success(array);
+            }
+
+            @Override
+            public @NotNull Result<@NotNull List<@NotNull T>> tryFrom(final @NotNull JsonElement value) {
+                if (this.isEnforcingBudget()) return super.tryFrom(value);
+
+                if (!(value instanceof final @NotNull JsonArray array)) {
+                    final @NotNull String message = "Not a JSON Array: " + value;
+
+                    return this.failedResult(this.arrayResolution, new IllegalStateException(message));
+                }
+
+                final int size = array.size();
+                final @NotNull List<@NotNull T> list = new ObjectArrayList<>(size);
+
+                for (int index = 0; index < size; index += 1) {
+                    final @NotNull Result<@NotNull T> result = thisTryFrom.apply(array.get(index));
+
+                    if (result instanceof final Result.Failure<T> failure) {
+                        final @NotNull ScopedException error = this.enclose(this.fromElement, failure.error(), index);
+
+                        return Result.failure(this.enclose(this.listConstruction, error));
+                    }
+
+                    list.add(result.orThrow());
+                }
+
+                return Result.success(list);
+            }
+
+            @Override
+            public @NotNull Report<@NotNull List<@NotNull T>> tryFromAll(final @NotNull JsonElement value) {
+                if (this.isEnforcingBudget() || !(value instanceof final @NotNull JsonArray array)) {
+                    return Report.of(this.tryFrom(value));
+                }
+
+                final int size = array.size();
+                final @NotNull List<@NotNull T> list = new ObjectArrayList<>(size);
+                final @NotNull List<@NotNull ScopedException> errors = new ObjectArrayList<>();
+
+                for (int index = 0; index < size; index += 1) {
+                    final @NotNull Report<@NotNull T> report = thisTryFromAll.apply(array.get(index));
+
+                    for (final @NotNull ScopedException error : report.errors()) {
+                        errors.add(this.enclose(this.listConstruction, this.enclose(this.fromElement, error, index)));
+                    }
+
+                    if (Objects.nonNull(report.value())) list.add(report.value());
+                }
+
+                return new Report<>(list, errors);
+            }
+
+            @Override
+            public @NotNull List<@NotNull T> reconvert(
+                final @NotNull JsonElement previous,
+                final @NotNull List<@NotNull T> previousValue,
+                final @NotNull JsonElement value
+            )
+                throws @NotNull ScopedException
+            {
+                if (!(previous instanceof JsonArray) || !(value instanceof JsonArray)) {
+                    return super.reconvert(previous, previousValue, value);
+                }
+                final @NotNull Revision<List<T>> revision = new Revision<>(previous, previousValue, value);
+
+                return this.runScoped(this.listConstruction, this.reconstructList, revision);
+            }
+
+            private @NotNull JsonArray constructArray(final @NotNull List<@NotNull T> value)
+                throws @NotNull ScopedException
+            {
+                this.consumeBudget(this.arrayConstruction, value.size());
+
+                final @NotNull JsonArray array = new JsonArray(value.size());
+
+                int index = 0;
+
+                for (final @NotNull T entry : value) {
+                    array.add(this.runScoped(this.intoElement, thisInto, entry, index));
+
+                    index += 1;
+                }
+
+                return array;
+            }
+
+            private @NotNull List<@NotNull T> constructList(final @NotNull JsonArray array)
+                throws @NotNull ScopedException
+            {
+                final int size = array.size();
+
+                this.consumeBudget(this.listConstruction, size);
+
+                final @NotNull List<@NotNull T> list = new ObjectArrayList<>(size);
+
+                for (int index = 0; index < size; index += 1) {
+                    list.add(this.runScoped(this.fromElement, thisFrom, array.get(index), index));
+                }
+
+                return list;
+            }
+
+            private @NotNull List<@NotNull T> reconstructList(final @NotNull Revision<List<T>> revision)
+                throws @NotNull ScopedException
+            {
+                final @NotNull JsonArray previous = revision.previous().getAsJsonArray();
+                final @NotNull List<@NotNull T> previousList = revision.previousValue();
+                final @NotNull JsonArray array = revision.value().getAsJsonArray();
+                final int size = array.size();
+                final int shared = Math.min(size, Math.min(previous.size(), previousList.size()));
+
+                this.consumeBudget(this.listConstruction, size);
+
+                final @NotNull List<@NotNull T> list = new ObjectArrayList<>(size);
+
+                boolean changed = size != previousList.size();
+
+                for (int index = 0; index < shared; index += 1) {
+                    final @NotNull T previousElement = previousList.get(index);
+
+                    if (JsonConverter.isUnchangedPrimitive(previous.get(index), array.get(index))) {
+                        list.add(previousElement);
+
+                        continue;
+                    }
+
+                    final @NotNull Revision<T> element =
+                        new Revision<>(previous.get(index), previousElement, array.get(index));
+                    final @NotNull T converted = this.runScoped(this.fromElement, thisReconvert, element, index);
+
+                    changed |= converted != previousElement;
+
+                    list.add(converted);
+                }
+
+                for (int index = shared; index < size; index += 1) {
+                    list.add(this.runScoped(this.fromElement, thisFrom, array.get(index), index));
+                }
+
+                return changed ? list : previousList;
+            }
+
+            private void writeArray(final @NotNull JsonWriter writer, final @NotNull List<@NotNull T> value)
+                throws @NotNull IOException, @NotNull ScopedException
+            {
+                this.consumeBudget(this.arrayConstruction, value.size());
+
+                writer.beginArray();
+
+                int index = 0;
+
+                for (final @NotNull T entry : value) {
+                    this.runScoped(this.intoElement, thisWrite, writer, entry, index);
+
+                    index += 1;
+                }
+
+                writer.endArray();
+            }
+
+            private @NotNull List<@NotNull T> readList(final @NotNull JsonReader reader)
+                throws @NotNull IOException, @NotNull ScopedException
+            {
+                reader.beginArray();
+
+                final @NotNull List<@NotNull T> list = new ObjectArrayList<>();
+
+                for (int index = 0; reader.hasNext(); index += 1) {
+                    this.consumeBudget(this.listConstruction, 1);
+
+                    list.add(this.runScoped(this.fromElement, thisRead, reader, index));
+                }
+
+                reader.endArray();
+
+                return list;
+            }
+
+        };
+    }
+
+    /**
+     * Creates a new {@link JsonConverter} that converts to and from a list of type {@link T}, converting the elements
+     * of large arrays in parallel.
+     * <p>
+     * Arrays with at least the given number of elements are split across the common {@link ForkJoinPool}. The list
+     * keeps the array's order, and a failure reports the element with the lowest index, as {@link #list()} does. The
+     * elements of smaller arrays are converted in order on the current thread, as are all elements while the current
+     * thread has state that other threads would not observe, such as an enforced
+     * {@link dev.jaxydog.ochre.utility.Budget}, omitted stack traces, or an optimistic run. Installed listeners do not
+     * prevent parallel conversion, and are notified of the scopes of each element on the thread that converts it.
+     * Conversions into arrays and streaming conversions are not run in parallel.
+     * <p>
+     * This converter's element conversions must be safe to run concurrently.
+     *
+     * @param threshold The minimum number of elements for an array to be converted in parallel.
+     *
+     * @return A new {@link JsonConverter}.
+     *
+     * @throws IllegalArgumentException If the threshold is negative.
+     * @since 0.1.0
+     */
+    public final @NotNull JsonConverter<List<@NotNull T>> parallelList(final int threshold) {
+        if (threshold < 0) throw new IllegalArgumentException("The threshold must not be negative.");
+
+        final @NotNull FallibleFunction<@NotNull JsonElement, @NotNull T, ScopedException> thisFrom = this::from;
+        final @NotNull JsonConverter<List<@NotNull T>> sequential = this.list();
+        final @NotNull Shape shape = Shape.of(Shape.Kind.PARALLEL_LIST, this);
+
+        return new JsonConverter<>() {
+
+            private final @NotNull Scope listConstruction = this.createScope(Method.FROM.context("list construction"));
+            private final @NotNull Scope fromElement = this.createScope(Method.FROM.context("element conversion"));
+
+            private final @NotNull FallibleFunction<JsonArray, List<T>, ScopedException> constructList =
+                this::constructList;
+
+            @Override
+            public @NotNull Shape shape() {
+                return shape;
+            }
+
+            @Override
+            public @NotNull JsonElement into(@NotNull List<@NotNull T> value)
+                throws @NotNull ScopedException
+            {
+                return sequential.into(value);
+            }
+
+            @Override
+            public @NotNull List<@NotNull T> from(@NotNull JsonElement value)
+                throws @NotNull ScopedException
+            {
+                if (!(value instanceof final @NotNull JsonArray array) || array.size() < threshold) {
+                    return sequential.from(value);
+                }
+                if (this.hasThreadState()) return sequential.from(value);
+
+                return this.runScoped(this.listConstruction, this.constructList, array);
+            }
+
+            @Override
+            public @NotNull List<@NotNull T> read(final @NotNull JsonReader reader)
+                throws @NotNull ScopedException
+            {
+                return sequential.read(reader);
+            }
+
+            @Override
+            public void write(final @NotNull JsonWriter writer, final @NotNull List<@NotNull T> value)
+                throws @NotNull ScopedException
+            {
+                sequential.write(writer, value);
+            }
+
+            @Override
+            public @NotNull List<@NotNull T> reconvert(
+                final @NotNull JsonElement previous,
+                final @NotNull List<@NotNull T> previousValue,
+                final @NotNull JsonElement value
+            )
+                throws @NotNull ScopedException
+            {
+                return sequential.reconvert(previous, previousValue, value);
+            }
+
+            private @NotNull List<@NotNull T> constructList(final @NotNull JsonArray array)
+                throws @NotNull ScopedException
+            {
+                final int size = array.size();
+                final @NotNull ObjectArrayList<@NotNull T> list = new ObjectArrayList<>(size);
+
+                list.size(size);
+
+                JsonConverter.forEachInParallel(size, index -> {
+                    list.set(index, this.runScoped(this.fromElement, thisFrom, array.get(index), index));
+                });
+
+                return list;
+            }
+
+        };
+    }
+
+    /**
+     * Returns a new {@link JsonConverter} that converts from a JSON array into a list whose elements are only converted
+     * when they are first accessed.
+     * <p>
+     * This is useful for large arrays of which only a few elements are read, as no elements are converted until they
+     * are needed. The returned list is unmodifiable, caches each converted element, and may be shared between threads.
+     * Element failures are thrown when the failed element is accessed, rather than by {@link #from(JsonElement)}. As
+     * the scopes that enclosed {@link #from(JsonElement)} have been exited by then, the path of such a failure is
+     * relative to the array, such as {@code /3} rather than {@code /items/3}.
+     * The array's elements are copied by {@link #from(JsonElement)}, so later changes to the array are not reflected in
+     * the list. While a {@link dev.jaxydog.ochre.utility.Budget} is being enforced, elements are converted eagerly, as
+     * {@link #list()} does. Conversions into arrays and streaming conversions are not lazy.
+     * <p>
+     * This converter's element conversions must be safe to run concurrently if the list is shared between threads.
+     *
+     * @return A new {@link JsonConverter}.
+     *
+     * @since 0.1.0
+     */
+    public final @NotNull JsonConverter<List<@NotNull T>> lazyList() {
+        final @NotNull FallibleFunction<@NotNull JsonElement, @NotNull T, ScopedException> thisFrom = this::from;
+        final @NotNull JsonConverter<List<@NotNull T>> sequential = this.list();
+        final @NotNull Shape shape = Shape.of(Shape.Kind.LAZY_LIST, this);
+
+        return new JsonConverter<>() {
+
+            private final @NotNull Scope arrayResolution = this.createScope(Method.FROM.context("array resolution"));
+            private final @NotNull Scope fromElement = this.createScope(Method.FROM.context("element conversion"));
+
+            @Override
+            public @NotNull Shape shape() {
+                return shape;
+            }
+
+            @Override
+            public @NotNull JsonElement into(@NotNull List<@NotNull T> value)
+                throws @NotNull ScopedException
+            {
+                return sequential.into(value);
+            }
+
+            @Override
+            public @NotNull List<@NotNull T> from(@NotNull JsonElement value)
+                throws @NotNull ScopedException
+            {
+                if (this.isEnforcingBudget()) return sequential.from(value);
+
+                final @NotNull JsonArray array =
+                    this.runScoped(this.arrayResolution, JsonElement::getAsJsonArray, value);
+                final @NotNull JsonElement @NotNull [] elements = new JsonElement[array.size()];
+
+                for (int index = 0; index < elements.length; index += 1) {
+                    elements[index] = array.get(index);
+                }
+
+                return new LazyJsonList<>(
+                    elements.length,
+                    index -> this.runScoped(this.fromElement, thisFrom, elements[index], index)
+                );
+            }
+
+            @Override
+            public @NotNull List<@NotNull T> read(final @NotNull JsonReader reader)
+                throws @NotNull ScopedException
+            {
+                return sequential.read(reader);
+            }
+
+            @Override
+            public void write(final @NotNull JsonWriter writer, final @NotNull List<@NotNull T> value)
+                throws @NotNull ScopedException
+            {
+                sequential.write(writer, value);
+            }
+
+        };
+    }
+
+    /**
+     * Returns a {@link JsonConverter} that converts to and from a map of type {@link T}.
+     * <p>
+     * The converter is created on first access, and the same instance is returned by every later call.
+     *
+     * @return A {@link JsonConverter}.
+     *
+     * @since 0.1.0
+     */
+    public final @NotNull JsonConverter<Map<@NotNull String, @NotNull T>> map() {
+        final @Nullable JsonConverter<Map<@NotNull String, @NotNull T>> map = this.map;
+
+        if (Objects.nonNull(map)) return map;
+
+        return JsonConverter.memoize(JsonConverter.MAP, this, this.createMap());
+    }
+
+    /**
+     * Creates a new {@link JsonConverter} that converts to and from a map of type {@link T}.
+     *
+     * @return A new {@link JsonConverter}.
+     *
+     * @since 0.1.0
+     */
+    private @NotNull JsonConverter<Map<@NotNull String, @NotNull T>> createMap() {
+        final @NotNull FallibleFunction<@NotNull T, @NotNull JsonElement, ScopedException> thisInto = this::into;
+        final @NotNull FallibleFunction<@NotNull JsonElement, @NotNull T, ScopedException> thisFrom = this::from;
+        final @NotNull FallibleFunction<@NotNull JsonReader, @NotNull T, ScopedException> thisRead = this::read;
+        final @NotNull FallibleBiConsumer<@NotNull JsonWriter, @NotNull T, ScopedException> thisWrite = this::write;
+        final @NotNull Function<@NotNull T, @NotNull Result<@NotNull JsonElement>> thisTryInto = this::tryInto;
+        final @NotNull Function<@NotNull JsonElement, @NotNull Result<@NotNull T>> thisTryFrom = this::tryFrom;
+        final @NotNull Function<@NotNull JsonElement, @NotNull Report<@NotNull T>> thisTryFromAll = this::tryFromAll;
+        final @NotNull FallibleFunction<@NotNull Revision<T>, @NotNull T, ScopedException> thisReconvert =
+            revision -> this.reconvert(revision.previous(), revision.previousValue(), revision.value());
+        final @NotNull Shape shape = Shape.of(Shape.Kind.MAP, this);
+
+        return new JsonConverter<>() {
+
+            private final @NotNull Scope objectConstruction =
+                this.createScope(Method.INTO.context("object construction"));
+            private final @NotNull Scope intoEntry = this.createScope(Method.INTO.context("entry conversion"));
+            private final @NotNull Scope objectResolution = this.createScope(Method.FROM.context("object resolution"));
+            private final @NotNull Scope mapConstruction = this.createScope(Method.FROM.context("map construction"));
+            private final @NotNull Scope fromEntry = this.createScope(Method.FROM.context("entry conversion"));
+
+            private final @NotNull FallibleFunction<Map<String, T>, JsonObject, ScopedException> constructObject =
+                this::constructObject;
+            private final @NotNull FallibleFunction<JsonObject, Map<String, T>, ScopedException> constructMap =
+                this::constructMap;
+            private final @NotNull FallibleFunction<Revision<Map<String, T>>, Map<String, T>, ScopedException>
+                reconstructMap = this::reconstructMap;
+            private final @NotNull FallibleBiConsumer<JsonWriter, Map<String, T>, IOException> writeObject =
+                this::writeObject;
+            private final @NotNull FallibleFunction<JsonReader, Map<String, T>, IOException> readMap = this::readMap;
+
+            @Override
+            public @NotNull Shape shape() {
+                return shape;
+            }
+
+            @Override
+            public @NotNull JsonElement into(@NotNull Map<@NotNull String, @NotNull T> value)
+                throws @NotNull ScopedException
+            {
+                return this.runScoped(this.objectConstruction, this.constructObject, value);
+            }
+
+            @Override
+            public @NotNull Map<String, T> from(@NotNull JsonElement value)
+                throws @NotNull ScopedException
+            {
+                final @NotNull JsonObject object =
+                    this.runScoped(this.objectResolution, JsonElement::getAsJsonObject, value);
+
+                return this.runScoped(this.mapConstruction, this.constructMap, object);
+            }
+
+            @Override
+            public @NotNull Map<String, T> read(final @NotNull JsonReader reader)
+                throws @NotNull ScopedException
+            {
+                return this.runScoped(this.mapConstruction, this.readMap, reader);
+            }
+
+            @Override
+            public void write(final @NotNull JsonWriter writer, final @NotNull Map<@NotNull String, @NotNull T> value)
+                throws @NotNull ScopedException
+            {
+                this.runScoped(this.objectConstruction, this.writeObject, writer, value);
+            }
+
+            @Override
+            public @NotNull Result<@NotNull JsonElement> tryInto(final @NotNull Map<String, T> value) {
+                if (this.isEnforcingBudget()) return super.tryInto(value);
+
+                final @NotNull JsonObject object = new JsonObject();
+
+                for (final @NotNull Entry<@NotNull String, @NotNull T> entry : value.entrySet()) {
+                    final @NotNull String key = entry.getKey();
+                    final @NotNull Result<@NotNull JsonElement> result = thisTryInto.apply(entry.getValue());
+
+                    if (result instanceof final Result.Failure<JsonElement> failure) {
+                        final @NotNull ScopedException error = this.enclose(this.intoEntry, failure.error(), key);
+
+                        return Result.failure(this.enclose(this.objectConstruction, error));
+                    }
+
+                    object.add(key, result.orThrow());
+                }
+
+                return Result.success(object);
+            }
+
+            @Override
+            public @NotNull Result<@NotNull Map<String, T>> tryFrom(final @NotNull JsonElement value) {
+                if (this.isEnforcingBudget()) return super.tryFrom(value);
+
+                if (!(value instanceof final @NotNull JsonObject object)) {
+                    final @NotNull String message = "Not a JSON Object: " + value;
+
+                    return this.failedResult(this.objectResolution, new IllegalStateException(message));
+                }
+
+                final @NotNull Map<@NotNull String, @NotNull T> map = new Object2ObjectOpenHashMap<>(object.size());
+
+                for (final @NotNull Entry<@NotNull String, @NotNull JsonElement> entry : object.entrySet()) {
+                    final @NotNull String key = entry.getKey();
+                    final @NotNull Result<@NotNull T> result = thisTryFrom.apply(entry.getValue());
+
+                    if (result instanceof final Result.Failure<T> failure) {
+                        final @NotNull ScopedException error = this.enclose(this.fromEntry, failure.error(), key);
+
+                        return Result.failure(this.enclose(this.mapConstruction, error));
+                    }
+
+                    map.put(key, result.orThrow());
+                }
+
+                return Result.success(map);
+            }
+
+            @Override
+            public @NotNull Report<@NotNull Map<String, T>> tryFromAll(final @NotNull JsonElement value) {
+                if (this.isEnforcingBudget() || !(value instanceof final @NotNull JsonObject object)) {
+                    return Report.of(this.tryFrom(value));
+                }
+
+                final @NotNull Map<@NotNull String, @NotNull T> map = new Object2ObjectOpenHashMap<>(object.size());
+                final @NotNull List<@NotNull ScopedException> errors = new ObjectArrayList<>();
+
+                for (final @NotNull Entry<@NotNull String, @NotNull JsonElement> entry : object.entrySet()) {
+                    final @NotNull String key = entry.getKey();
+                    final @NotNull Report<@NotNull T> report = thisTryFromAll.apply(entry.getValue());
+
+                    for (final @NotNull ScopedException error : report.errors()) {
+                        errors.add(this.enclose(this.mapConstruction, this.enclose(this.fromEntry, error, key)));
+                    }
+
+                    if (Objects.nonNull(report.value())) map.put(key, report.value());
+                }
+
+                return new Report<>(map, errors);
+            }
+
+            @Override
+            public @NotNull Map<String, T> reconvert(
+                final @NotNull JsonElement previous,
+                final @NotNull Map<String, T> previousValue,
+                final @NotNull JsonElement value
+            )
+                throws @NotNull ScopedException
+            {
+                if (!(previous instanceof JsonObject) || !(value instanceof JsonObject)) {
+                    return super.reconvert(previous, previousValue, value);
+                }
+                final @NotNull Revision<Map<String, T>> revision = new Revision<>(previous, previousValue, value);
+
+                return this.runScoped(this.mapConstruction, this.reconstructMap, revision);
+            }
+
+            private @NotNull JsonObject constructObject(final @NotNull Map<@NotNull String, @NotNull T> value)
+                throws @NotNull ScopedException
+            {
+                this.consumeBudget(this.objectConstruction, value.size());
+
+                final @NotNull JsonObject object = new JsonObject();
+
+                for (final @NotNull Entry<@NotNull String, @NotNull T> entry : value.entrySet()) {
+                    final @NotNull String key = entry.getKey();
+
+                    object.add(key, this.runScoped(this.intoEntry, thisInto, entry.getValue(), key));
+                }
+
+                return object;
+            }
+
+            private @NotNull Map<@NotNull String, @NotNull T> constructMap(final @NotNull JsonObject object)
+                throws @NotNull ScopedException
+            {
+                this.consumeBudget(this.mapConstruction, object.size());
+
+                final @NotNull Map<@NotNull String, @NotNull T> map = new Object2ObjectOpenHashMap<>(object.size());
+
+                for (final @NotNull Entry<@NotNull String, @NotNull JsonElement> entry : object.entrySet()) {
+                    final @NotNull String key = entry.getKey();
+
+                    map.put(key, this.runScoped(this.fromEntry, thisFrom, entry.getValue(), key));
+                }
+
+                return map;
+            }
+
+            private @NotNull Map<@NotNull String, @NotNull T> reconstructMap(
+                final @NotNull Revision<Map<String, T>> revision
+            )
+                throws @NotNull ScopedException
+            {
+                final @NotNull JsonObject previous = revision.previous().getAsJsonObject();
+                final @NotNull Map<@NotNull String, @NotNull T> previousMap = revision.previousValue();
+                final @NotNull JsonObject object = revision.value().getAsJsonObject();
+
+                this.consumeBudget(this.mapConstruction, object.size());
+
+                final @NotNull Map<@NotNull String, @NotNull T> map = new Object2ObjectOpenHashMap<>(object.size());
+
+                final @NotNull Iterator<Entry<String, JsonElement>> previousEntries = previous.entrySet().iterator();
+
+                boolean changed = object.size() != previousMap.size();
+
+                for (final @NotNull Entry<@NotNull String, @NotNull JsonElement> entry : object.entrySet()) {
+                    final @NotNull String key = entry.getKey();
+                    final @Nullable JsonElement previousElement = JsonConverter.member(previous, previousEntries, key);
+                    final @Nullable T previousEntry = previousMap.get(key);
+
+                    if (Objects.isNull(previousElement) || Objects.isNull(previousEntry)) {
+                        map.put(key, this.runScoped(this.fromEntry, thisFrom, entry.getValue(), key));
+
+                        changed = true;
+                    } else if (JsonConverter.isUnchangedPrimitive(previousElement, entry.getValue())) {
+                        map.put(key, previousEntry);
+                    } else {
+                        final @NotNull Revision<T> element =
+                            new Revision<>(previousElement, previousEntry, entry.getValue());
+                        final @NotNull T converted = this.runScoped(this.fromEntry, thisReconvert, element, key);
+
+                        changed |= converted != previousEntry;
+
+                        map.put(key, converted);
+                    }
+                }
+
+                return changed ? map : previousMap;
+            }
+
+            private void writeObject(
+                final @NotNull JsonWriter writer,
+                final @NotNull Map<@NotNull String, @NotNull T> value
+            )
+                throws @NotNull IOException, @NotNull ScopedException
+            {
+                this.consumeBudget(this.objectConstruction, value.size());
+
+                writer.beginObject();
+
+                for (final @NotNull Entry<@NotNull String, @NotNull T> entry : value.entrySet()) {
+                    final @NotNull String key = entry.getKey();
+
+                    writer.name(key);
+
+                    this.runScoped(this.intoEntry, thisWrite, writer, entry.getValue(), key);
+                }
+
+                writer.endObject();
+            }
+
+            private @NotNull Map<@NotNull String, @NotNull T> readMap(final @NotNull JsonReader reader)
+                throws @NotNull IOException, @NotNull ScopedException
+            {
+                reader.beginObject();
+
+                final @NotNull Map<@NotNull String, @NotNull T> map = new Object2ObjectOpenHashMap<>();
+
+                while (reader.hasNext()) {
+                    this.consumeBudget(this.mapConstruction, 1);
+
+                    final @NotNull String key = reader.nextName();
+
+                    map.put(key, this.runScoped(this.fromEntry, thisRead, reader, key));
+                }
+
+                reader.endObject();
+
+                return map;
+            }
+
+        };
+    }
+
+    /**
+     * Creates a new {@link JsonConverter} that converts to and from a map of type {@link T}, converting the entries of
+     * large objects in parallel.
+     * <p>
+     * Objects with at least the given number of entries are split across the common {@link ForkJoinPool}. A failure
+     * reports the entry that comes first within the object, as {@link #map()} does. The entries of smaller objects are
+     * converted in order on the current thread, as are all entries while the current thread has state that other
+     * threads would not observe, such as an enforced {@link dev.jaxydog.ochre.utility.Budget}, omitted stack traces,
+     * or an optimistic run. Installed listeners do not prevent parallel conversion, and are notified of the scopes of
+     * each entry on the thread that converts it. Conversions into objects and streaming conversions are not run in
+     * parallel.
+     * <p>
+     * This converter's entry conversions must be safe to run concurrently.
+     *
+     * @param threshold The minimum number of entries for an object to be converted in parallel.
+     *
+     * @return A new {@link JsonConverter}.
+     *
+     * @throws IllegalArgumentException If the threshold is negative.
+     * @since 0.1.0
+     */
+    public final @NotNull JsonConverter<Map<@NotNull String, @NotNull T>> parallelMap(final int threshold) {
+        if (threshold < 0) throw new IllegalArgumentException("The threshold must not be negative.");
+
+        final @NotNull FallibleFunction<@NotNull JsonElement, @NotNull T, ScopedException> thisFrom = this::from;
+        final @NotNull JsonConverter<Map<@NotNull String, @NotNull T>> sequential = this.map();
+        final @NotNull Shape shape = Shape.of(Shape.Kind.PARALLEL_MAP, this);
+
+        return new JsonConverter<>() {
+
+            private final @NotNull Scope mapConstruction = this.createScope(Method.FROM.context("map construction"));
+            private final @NotNull Scope fromEntry = this.createScope(Method.FROM.context("entry conversion"));
+
+            private final @NotNull FallibleFunction<JsonObject, Map<String, T>, ScopedException> constructMap =
+                this::constructMap;
+
+            @Override
+            public @NotNull Shape shape() {
+                return shape;
+            }
+
+            @Override
+            public @NotNull JsonElement into(@NotNull Map<@NotNull String, @NotNull T> value)
+                throws @NotNull ScopedException
+            {
+                return sequential.into(value);
+            }
+
+            @Override
+            public @NotNull Map<String, T> from(@NotNull JsonElement value)
+                throws @NotNull ScopedException
+            {
+                if (!(value instanceof final @NotNull JsonObject object) || object.size() < threshold) {
+                    return sequential.from(value);
+                }
+                if (this.hasThreadState()) return sequential.from(value);
+
+                return this.runScoped(this.mapConstruction, this.constructMap, object);
+            }
+
+            @Override
+            public @NotNull Map<String, T> read(final @NotNull JsonReader reader)
+                throws @NotNull ScopedException
+            {
+                return sequential.read(reader);
+            }
+
+            @Override
+            public void write(final @NotNull JsonWriter writer, final @NotNull Map<@NotNull String, @NotNull T> value)
+                throws @NotNull ScopedException
+            {
+                sequential.write(writer, value);
+            }
+
+            @Override
+            public @NotNull Map<String, T> reconvert(
+                final @NotNull JsonElement previous,
+                final @NotNull Map<String, T> previousValue,
+                final @NotNull JsonElement value
+            )
+                throws @NotNull ScopedException
+            {
+                return sequential.reconvert(previous, previousValue, value);
+            }
+
+            private @NotNull Map<@NotNull String, @NotNull T> constructMap(final @NotNull JsonObject object)
+                throws @NotNull ScopedException
+            {
+                final int size = object.size();
+                final @NotNull String @NotNull [] keys = new String[size];
+                final @NotNull JsonElement @NotNull [] elements = new JsonElement[size];
+                final @NotNull ObjectArrayList<@NotNull T> values = new ObjectArrayList<>(size);
+
+                values.size(size);
+
+                int index = 0;
+
+                for (final @NotNull Entry<@NotNull String, @NotNull JsonElement> entry : object.entrySet()) {
+                    keys[index] = entry.getKey();
+                    elements[index] = entry.getValue();
+
+                    index += 1;
+                }
+
+                JsonConverter.forEachInParallel(size, entry -> {
+                    values.set(entry, this.runScoped(this.fromEntry, thisFrom, elements[entry], keys[entry]));
+                });
+
+                final @NotNull Map<@NotNull String, @NotNull T> map = new Object2ObjectOpenHashMap<>(size);
+
+                for (index = 0; index < size; index += 1) {
+                    map.put(keys[index], values.get(index));
+                }
+
+                return map;
+            }
+
+        };
+    }
+
+    /**
+     * Returns a new {@link JsonConverter} that converts from a JSON object into a map whose values are only converted
+     * when they are first accessed.
+     * <p>
+     * This is useful for large lookup tables of which only a few keys are read, as no values are converted until they
+     * are needed. The returned map is unmodifiable, caches each converted value, and may be shared between threads. Its
+     * keys are available without converting any values, and it iterates over its entries in the order of the object's
+     * members. Value failures are thrown when the failed value is accessed, rather than by {@link #from(JsonElement)}.
+     * As the scopes that enclosed {@link #from(JsonElement)} have been exited by then, the path of such a failure is
+     * relative to the object, such as {@code /stone} rather than {@code /blocks/stone}. The object's members are copied
+     * by {@link #from(JsonElement)}, so later changes to the object are not reflected in the map. While a
+     * {@link dev.jaxydog.ochre.utility.Budget} is being enforced, values are converted eagerly, as {@link #map()} does.
+     * Conversions into objects and streaming conversions are not lazy.
+     * <p>
+     * This converter's value conversions must be safe to run concurrently if the map is shared between threads.
+     *
+     * @return A new {@link JsonConverter}.
+     *
+     * @since 0.1.0
+     */
+    public final @NotNull JsonConverter<Map<@NotNull String, @NotNull T>> lazyMap() {
+        final @NotNull FallibleFunction<@NotNull JsonElement, @NotNull T, ScopedException> thisFrom = this::from;
+        final @NotNull JsonConverter<Map<@NotNull String, @NotNull T>> sequential = this.map();
+        final @NotNull Shape shape = Shape.of(Shape.Kind.LAZY_MAP, this);
+
+        return new JsonConverter<>() {
+
+            private final @NotNull Scope objectResolution =
+                this.createScope(Method.FROM.context("object resolution"));
+            private final @NotNull Scope fromEntry = this.createScope(Method.FROM.context("entry conversion"));
+
+            @Override
+            public @NotNull Shape shape() {
+                return shape;
+            }
+
+            @Override
+            public @NotNull JsonElement into(@NotNull Map<@NotNull String, @NotNull T> value)
+                throws @NotNull ScopedException
+            {
+                return sequential.into(value);
+            }
+
+            @Override
+            public @NotNull Map<String, T> from(@NotNull JsonElement value)
+                throws @NotNull ScopedException
+            {
+                if (this.isEnforcingBudget()) return sequential.from(value);
+
+                final @NotNull JsonObject object =
+                    this.runScoped(this.objectResolution, JsonElement::getAsJsonObject, value);
+                final int size = object.size();
+                final @NotNull String @NotNull [] keys = new String[size];
+                final @NotNull JsonElement @NotNull [] elements = new JsonElement[size];
+
+                int index = 0;
+
+                for (final @NotNull Entry<@NotNull String, @NotNull JsonElement> entry : object.entrySet()) {
+                    keys[index] = entry.getKey();
+                    elements[index] = entry.getValue();
+
+                    index += 1;
+                }
+
+                return new LazyJsonMap<>(
+                    keys,
+                    entry -> this.runScoped(this.fromEntry, thisFrom, elements[entry], keys[entry])
+                );
+            }
+
+            @Override
+            public @NotNull Map<String, T> read(final @NotNull JsonReader reader)
+                throws @NotNull ScopedException
+            {
+                return sequential.read(reader);
+            }
+
+            @Override
+            public void write(final @NotNull JsonWriter writer, final @NotNull Map<@NotNull String, @NotNull T> value)
+                throws @NotNull ScopedException
+            {
+                sequential.write(writer, value);
+            }
+
+        };
+    }
+
+    /**
+     * The arguments of a call to {@link #reconvert(JsonElement, Object, JsonElement)}, allowing them to be passed
+     * through a scope.
+     *
+     * @param previous The previously converted element.
+     * @param previousValue The value previously converted from that element.
+     * @param value The updated element.
+     * @param <T> The type being converted.
+     *
+     * @author Jaxydog
+     * @since 0.1.0
+     */
+    record Revision<T>(@NotNull JsonElement previous, @NotNull T previousValue, @NotNull JsonElement value) { }
+
 }
@@ -0,0 +1,141 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2025 Jaxydog
+ *
+ * This file is part of Ochre.
+ *
+ * Ochre is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Ochre is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Ochre. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.ochre.converter;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Shared number handling for the primitive number converters.
+ * <p>
+ * Each converter narrows numbers to its own primitive type, but they all agree on which elements are numbers, which can
+ * never be, and how integers that do not fit the reader's fast path are read.
+ *
+ * @author Jaxydog
+ * @since 0.1.0
+ */
+final class JsonNumbers {
+
+    /**
+     * Prevents this class from being instantiated.
+     *
+     * @since 0.1.0
+     */
+    private JsonNumbers() { }
+
+    /**
+     * Returns the number held by the given element, if it is a number primitive.
+     * <p>
+     * Such elements can be narrowed to any primitive number type without throwing.
+     *
+     * @param value The element.
+     *
+     * @return The number, or {@code null} if the element is not a number primitive.
+     *
+     * @since 0.1.0
+     */
+    static @Nullable Number numberOf(final @NotNull JsonElement value) {
+        if (value instanceof final @NotNull JsonPrimitive primitive && primitive.isNumber()) {
+            return primitive.getAsNumber();
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns whether the given element can never be converted into a number.
+     * <p>
+     * Objects and nulls always fail, while other elements, such as strings and single-element arrays, may hold a
+     * number.
+     *
+     * @param value The element.
+     *
+     * @return Whether the element can never be converted.
+     *
+     * @since 0.1.0
+     */
+    static boolean isNeverNumber(final @NotNull JsonElement value) {
+        return value.isJsonObject() || value.isJsonNull();
+    }
+
+    /**
+     * Reads an integer from the given reader.
+     * <p>
+     * Values that are not integers are truncated, matching {@link Number#intValue()} for a {@link JsonElement}.
+     *
+     * @param reader The reader.
+     *
+     * @return The integer.
+     *
+     * @throws IOException If the value could not be read.
+     * @since 0.1.0
+     */
+    static int nextInt(final @NotNull JsonReader reader)
+        throws @NotNull IOException
+    {
+        try {
+            return reader.nextInt();
+        } catch (final @NotNull NumberFormatException exception) {
+            return JsonNumbers.nextDecimal(reader).intValue();
+        }
+    }
+
+    /**
+     * Reads a long from the given reader.
+     * <p>
+     * Values that are not integers are truncated, matching {@link Number#longValue()} for a {@link JsonElement}.
+     *
+     * @param reader The reader.
+     *
+     * @return The long.
+     *
+     * @throws IOException If the value could not be read.
+     * @since 0.1.0
+     */
+    static long nextLong(final @NotNull JsonReader reader)
+        throws @NotNull IOException
+    {
+        try {
+            return reader.nextLong();
+        } catch (final @NotNull NumberFormatException exception) {
+            return JsonNumbers.nextDecimal(reader).longValue();
+        }
+    }
+
+    /**
+     * Reads a number that the reader failed to parse as an integer.
+     *
+     * @param reader The reader.
+     *
+     * @return The number.
+     *
+     * @throws IOException If the value could not be read.
+     * @throws NumberFormatException If the value is not a number.
+     * @since 0.1.0
+     */
+    private static @NotNull BigDecimal nextDecimal(final @NotNull JsonReader reader)
+        throws @NotNull IOException, @NotNull NumberFormatException
+    {
+        // The reader keeps a value that it fails to parse, so it can be read again as a string.
+        return new BigDecimal(reader.nextString());
+    }
+
+}
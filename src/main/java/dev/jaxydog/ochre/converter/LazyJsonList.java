@@ -0,0 +1,102 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2025 Jaxydog
+ *
+ * This file is part of Ochre.
+ *
+ * Ochre is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Ochre is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Ochre. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.ochre.converter;
+
+import dev.jaxydog.ochre.utility.ScopedException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractList;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+
+/**
+ * An unmodifiable list whose elements are converted from JSON when they are first accessed.
+ * <p>
+ * Each converted element is cached, and is published safely so that every thread observes the same instance. If
+ * several threads access an unconverted element at once, each may convert it, but only one result is kept. Failed
+ * conversions are not cached, and are thrown on every access to the failed element.
+ *
+ * @param <T> The type of the list's elements.
+ *
+ * @author Jaxydog
+ * @see JsonConverter#lazyList()
+ * @since 0.1.0
+ */
+final class LazyJsonList<T>
+    extends AbstractList<T>
+    implements RandomAccess
+{
+
+    /**
+     * The converted elements, each of which is {@code null} until it is first accessed.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull AtomicReferenceArray<T> values;
+    /**
+     * Converts the element at a given index.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull IntFunction<@NotNull T> convert;
+
+    /**
+     * Creates a new {@link LazyJsonList}.
+     *
+     * @param size The number of elements.
+     * @param convert Converts the element at a given index.
+     *
+     * @since 0.1.0
+     */
+    LazyJsonList(final int size, final @NotNull IntFunction<@NotNull T> convert) {
+        this.values = new AtomicReferenceArray<>(size);
+        this.convert = convert;
+    }
+
+    /**
+     * Returns the element at the given index, converting it if this is the first access.
+     *
+     * @param index The index.
+     *
+     * @return The element.
+     *
+     * @throws IndexOutOfBoundsException If the index is out of bounds.
+     * @throws ScopedException If the element could not be converted.
+     * @since 0.1.0
+     */
+    @Override
+    public @NotNull T get(final int index)
+        throws @NotNull IndexOutOfBoundsException, @NotNull ScopedException
+    {
+        Objects.checkIndex(index, this.values.length());
+
+        final @Nullable T value = this.values.get(index);
+
+        if (Objects.nonNull(value)) return value;
+
+        final @NotNull T converted = this.convert.apply(index);
+
+        return this.values.compareAndSet(index, null, converted) ? converted : this.values.get(index);
+    }
+
+    @Override
+    public int size() {
+        return this.values.length();
+    }
+
+}
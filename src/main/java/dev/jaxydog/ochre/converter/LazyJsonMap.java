@@ -0,0 +1,267 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2025 Jaxydog
+ *
+ * This file is part of Ochre.
+ *
+ * Ochre is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Ochre is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Ochre. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.ochre.converter;
+
+import dev.jaxydog.ochre.utility.ScopedException;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+
+/**
+ * An unmodifiable map whose values are converted from JSON when they are first accessed.
+ * <p>
+ * Keys are available without converting any values, and iterating over the map's entries only converts the values
+ * that are read. Each converted value is cached, and is published safely so that every thread observes the same
+ * instance. If several threads access an unconverted value at once, each may convert it, but only one result is kept.
+ * Failed conversions are not cached, and are thrown on every access to the failed value. Entries are iterated in the
+ * order of the JSON object's members.
+ *
+ * @param <T> The type of the map's values.
+ *
+ * @author Jaxydog
+ * @see JsonConverter#lazyMap()
+ * @since 0.1.0
+ */
+final class LazyJsonMap<T>
+    extends AbstractMap<String, T>
+{
+
+    /**
+     * The map's keys, in the order of the JSON object's members.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull String @NotNull [] keys;
+    /**
+     * The index of each key.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull Object2IntOpenHashMap<String> indices;
+    /**
+     * The converted values, each of which is {@code null} until it is first accessed.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull AtomicReferenceArray<T> values;
+    /**
+     * Converts the value at a given index.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull IntFunction<@NotNull T> convert;
+
+    /**
+     * The map's entries, created on first access.
+     *
+     * @since 0.1.0
+     */
+    private @Nullable Set<Entry<String, T>> entries;
+
+    /**
+     * Creates a new {@link LazyJsonMap}.
+     *
+     * @param keys The map's keys, which must be distinct.
+     * @param convert Converts the value at a given index.
+     *
+     * @since 0.1.0
+     */
+    LazyJsonMap(final @NotNull String @NotNull [] keys, final @NotNull IntFunction<@NotNull T> convert) {
+        this.keys = keys;
+        this.indices = new Object2IntOpenHashMap<>(keys.length);
+        this.indices.defaultReturnValue(-1);
+        this.values = new AtomicReferenceArray<>(keys.length);
+        this.convert = convert;
+
+        for (int index = 0; index < keys.length; index += 1) {
+            this.indices.put(keys[index], index);
+        }
+    }
+
+    /**
+     * Returns the value at the given index, converting it if this is the first access.
+     *
+     * @param index The index.
+     *
+     * @return The value.
+     *
+     * @throws ScopedException If the value could not be converted.
+     * @since 0.1.0
+     */
+    private @NotNull T value(final int index)
+        throws @NotNull ScopedException
+    {
+        final @Nullable T value = this.values.get(index);
+
+        if (Objects.nonNull(value)) return value;
+
+        final @NotNull T converted = this.convert.apply(index);
+
+        return this.values.compareAndSet(index, null, converted) ? converted : this.values.get(index);
+    }
+
+    /**
+     * Returns the value associated with the given key, converting it if this is the first access.
+     *
+     * @param key The key.
+     *
+     * @return The value, or {@code null} if the key is not present.
+     *
+     * @throws ScopedException If the value could not be converted.
+     * @since 0.1.0
+     */
+    @Override
+    public @Nullable T get(final @Nullable Object key)
+        throws @NotNull ScopedException
+    {
+        final int index = this.indices.getInt(key);
+
+        return index < 0 ? null : this.value(index);
+    }
+
+    @Override
+    public boolean containsKey(final @Nullable Object key) {
+        return this.indices.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return this.keys.length;
+    }
+
+    @Override
+    public @NotNull Set<Entry<String, T>> entrySet() {
+        if (Objects.isNull(this.entries)) this.entries = new EntrySet();
+
+        return this.entries;
+    }
+
+    /**
+     * The entries of a {@link LazyJsonMap}, whose values are converted when they are read.
+     *
+     * @author Jaxydog
+     * @since 0.1.0
+     */
+    private final class EntrySet
+        extends AbstractSet<Entry<String, T>>
+    {
+
+        @Override
+        public @NotNull Iterator<Entry<String, T>> iterator() {
+            return new Iterator<>() {
+
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                    return this.index < LazyJsonMap.this.keys.length;
+                }
+
+                @Override
+                public @NotNull Entry<String, T> next() {
+                    if (!this.hasNext()) throw new NoSuchElementException();
+
+                    final @NotNull LazyEntry entry = new LazyEntry(this.index);
+
+                    this.index += 1;
+
+                    return entry;
+                }
+
+            };
+        }
+
+        @Override
+        public int size() {
+            return LazyJsonMap.this.keys.length;
+        }
+
+    }
+
+    /**
+     * An entry of a {@link LazyJsonMap}, whose value is converted when it is first read.
+     *
+     * @author Jaxydog
+     * @since 0.1.0
+     */
+    private final class LazyEntry
+        implements Entry<String, T>
+    {
+
+        /**
+         * The entry's index.
+         *
+         * @since 0.1.0
+         */
+        private final int index;
+
+        /**
+         * Creates a new {@link LazyEntry}.
+         *
+         * @param index The entry's index.
+         *
+         * @since 0.1.0
+         */
+        private LazyEntry(final int index) {
+            this.index = index;
+        }
+
+        @Override
+        public @NotNull String getKey() {
+            return LazyJsonMap.this.keys[this.index];
+        }
+
+        @Override
+        public @NotNull T getValue()
+            throws @NotNull ScopedException
+        {
+            return LazyJsonMap.this.value(this.index);
+        }
+
+        @Override
+        public T setValue(final T value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean equals(final @Nullable Object object) {
+            if (this == object) return true;
+            if (!(object instanceof final @NotNull Entry<?, ?> other)) return false;
+
+            return this.getKey().equals(other.getKey()) && this.getValue().equals(other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return this.getKey().hashCode() ^ this.getValue().hashCode();
+        }
+
+        @Override
+        public @NotNull String toString() {
+            return this.getKey() + "=" + this.getValue();
+        }
+
+    }
+
+}
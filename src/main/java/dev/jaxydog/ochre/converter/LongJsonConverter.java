@@ -0,0 +1,367 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2025 Jaxydog
+ *
+ * This file is part of Ochre.
+ *
+ * Ochre is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Ochre is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Ochre. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.ochre.converter;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import dev.jaxydog.ochre.utility.FallibleBiConsumer;
+import dev.jaxydog.ochre.utility.FallibleFunction;
+import dev.jaxydog.ochre.utility.Result;
+import dev.jaxydog.ochre.utility.ScopedException;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+
+/**
+ * A {@link JsonConverter} for long values that provides methods for converting unboxed values.
+ * <p>
+ * Conversions do not enter a scope unless they fail, as they cannot contain any nested conversions.
+ *
+ * @author Jaxydog
+ * @since 0.1.0
+ */
+public final class LongJsonConverter
+    extends JsonConverter<Long>
+{
+
+    /**
+     * A handle for {@link #longList}, used to publish it atomically.
+     *
+     * @since 0.1.0
+     */
+    private static final @NotNull VarHandle LONG_LIST =
+        JsonConverter.memoHandle(MethodHandles.lookup(), "longList", JsonConverter.class);
+
+    /**
+     * The scope used while converting into a {@link JsonElement}.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull Scope intoScope = this.createScope(Method.INTO.context());
+    /**
+     * The scope used while converting from a {@link JsonElement}.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull Scope fromScope = this.createScope(Method.FROM.context());
+
+    /**
+     * This converter's list converter, created on first access.
+     *
+     * @since 0.1.0
+     */
+    private volatile @Nullable JsonConverter<LongList> longList;
+
+    /**
+     * Creates a new {@link LongJsonConverter}.
+     *
+     * @since 0.1.0
+     */
+    LongJsonConverter() { }
+
+    /**
+     * Converts from a long into a {@link JsonElement}.
+     *
+     * @param value The value to convert.
+     *
+     * @return The converted value.
+     *
+     * @since 0.1.0
+     */
+    public @NotNull JsonElement into(final long value) {
+        return new JsonPrimitive(value);
+    }
+
+    /**
+     * Converts from a {@link JsonElement} into a long.
+     *
+     * @param value The value to convert.
+     *
+     * @return The converted value.
+     *
+     * @throws ScopedException If the conversion fails.
+     * @since 0.1.0
+     */
+    public long longFrom(final @NotNull JsonElement value)
+        throws @NotNull ScopedException
+    {
+        try {
+            return value.getAsNumber().longValue();
+        } catch (final @NotNull RuntimeException exception) {
+            throw this.scopedFailure(this.fromScope, exception);
+        }
+    }
+
+    /**
+     * Reads a long from the given reader.
+     *
+     * @param reader The reader.
+     *
+     * @return The long.
+     *
+     * @throws ScopedException If the value could not be read.
+     * @since 0.1.0
+     */
+    public long readLong(final @NotNull JsonReader reader)
+        throws @NotNull ScopedException
+    {
+        try {
+            return JsonNumbers.nextLong(reader);
+        } catch (final @NotNull IOException | RuntimeException exception) {
+            throw this.scopedFailure(this.fromScope, exception);
+        }
+    }
+
+    /**
+     * Writes the given long to the given writer.
+     *
+     * @param writer The writer.
+     * @param value The value to write.
+     *
+     * @throws ScopedException If the value could not be written.
+     * @since 0.1.0
+     */
+    public void write(final @NotNull JsonWriter writer, final long value)
+        throws @NotNull ScopedException
+    {
+        try {
+            writer.value(value);
+        } catch (final @NotNull IOException | RuntimeException exception) {
+            throw this.scopedFailure(this.intoScope, exception);
+        }
+    }
+
+    /**
+     * Returns a {@link JsonConverter} that converts to and from a list of longs.
+     * <p>
+     * Unlike {@link #list()}, the list's values are stored without boxing. Each value is converted without entering a
+     * scope unless it fails. The converter is created on first access, and the same instance is returned by every later
+     * call.
+     *
+     * @return A {@link JsonConverter}.
+     *
+     * @since 0.1.0
+     */
+    public @NotNull JsonConverter<LongList> longList() {
+        final @Nullable JsonConverter<LongList> list = this.longList;
+
+        if (Objects.nonNull(list)) return list;
+
+        return JsonConverter.memoize(LongJsonConverter.LONG_LIST, this, this.createLongList());
+    }
+
+    /**
+     * Creates a new {@link JsonConverter} that converts to and from a list of longs.
+     *
+     * @return A new {@link JsonConverter}.
+     *
+     * @since 0.1.0
+     */
+    private @NotNull JsonConverter<LongList> createLongList() {
+        final @NotNull LongJsonConverter converter = this;
+        final @NotNull Shape shape = Shape.of(Shape.Kind.LIST, this);
+
+        return new JsonConverter<>() {
+
+            private final @NotNull Scope arrayConstruction =
+                this.createScope(Method.INTO.context("array construction"));
+            private final @NotNull Scope intoElement = this.createScope(Method.INTO.context("element conversion"));
+            private final @NotNull Scope arrayResolution = this.createScope(Method.FROM.context("array resolution"));
+            private final @NotNull Scope listConstruction = this.createScope(Method.FROM.context("list construction"));
+            private final @NotNull Scope fromElement = this.createScope(Method.FROM.context("element conversion"));
+
+            private final @NotNull FallibleFunction<LongList, JsonArray, ScopedException> constructArray =
+                this::constructArray;
+            private final @NotNull FallibleFunction<JsonArray, LongList, ScopedException> constructList =
+                this::constructList;
+            private final @NotNull FallibleBiConsumer<JsonWriter, LongList, IOException> writeArray = this::writeArray;
+            private final @NotNull FallibleFunction<JsonReader, LongList, IOException> readList = this::readList;
+
+            @Override
+            public @NotNull Shape shape() {
+                return shape;
+            }
+
+            @Override
+            public @NotNull JsonElement into(@NotNull LongList value)
+                throws @NotNull ScopedException
+            {
+                return this.runScoped(this.arrayConstruction, this.constructArray, value);
+            }
+
+            @Override
+            public @NotNull LongList from(@NotNull JsonElement value)
+                throws @NotNull ScopedException
+            {
+                final @NotNull JsonArray array =
+                    this.runScoped(this.arrayResolution, JsonElement::getAsJsonArray, value);
+
+                return this.runScoped(this.listConstruction, this.constructList, array);
+            }
+
+            @Override
+            public @NotNull LongList read(final @NotNull JsonReader reader)
+                throws @NotNull ScopedException
+            {
+                return this.runScoped(this.listConstruction, this.readList, reader);
+            }
+
+            @Override
+            public void write(final @NotNull JsonWriter writer, final @NotNull LongList value)
+                throws @NotNull ScopedException
+            {
+                this.runScoped(this.arrayConstruction, this.writeArray, writer, value);
+            }
+
+            private @NotNull JsonArray constructArray(final @NotNull LongList value)
+                throws @NotNull ScopedException
+            {
+                final int size = value.size();
+
+                this.consumeBudget(this.arrayConstruction, size);
+
+                final @NotNull JsonArray array = new JsonArray(size);
+
+                for (int index = 0; index < size; index += 1) {
+                    array.add(converter.into(value.getLong(index)));
+                }
+
+                return array;
+            }
+
+            private @NotNull LongList constructList(final @NotNull JsonArray array)
+                throws @NotNull ScopedException
+            {
+                final int size = array.size();
+
+                this.consumeBudget(this.listConstruction, size);
+
+                final long @NotNull [] values = new long[size];
+
+                for (int index = 0; index < size; index += 1) {
+                    try {
+                        values[index] = converter.longFrom(array.get(index));
+                    } catch (final @NotNull ScopedException exception) {
+                        throw this.scopedFailure(this.fromElement, exception, index);
+                    }
+                }
+
+                return LongArrayList.wrap(values);
+            }
+
+            private void writeArray(final @NotNull JsonWriter writer, final @NotNull LongList value)
+                throws @NotNull IOException, @NotNull ScopedException
+            {
+                final int size = value.size();
+
+                this.consumeBudget(this.arrayConstruction, size);
+
+                writer.beginArray();
+
+                for (int index = 0; index < size; index += 1) {
+                    try {
+                        converter.write(writer, value.getLong(index));
+                    } catch (final @NotNull ScopedException exception) {
+                        throw this.scopedFailure(this.intoElement, exception, index);
+                    }
+                }
+
+                writer.endArray();
+            }
+
+            private @NotNull LongList readList(final @NotNull JsonReader reader)
+                throws @NotNull IOException, @NotNull ScopedException
+            {
+                reader.beginArray();
+
+                final @NotNull LongList list = new LongArrayList();
+
+                for (int index = 0; reader.hasNext(); index += 1) {
+                    this.consumeBudget(this.listConstruction, 1);
+
+                    try {
+                        list.add(converter.readLong(reader));
+                    } catch (final @NotNull ScopedException exception) {
+                        throw this.scopedFailure(this.fromElement, exception, index);
+                    }
+                }
+
+                reader.endArray();
+
+                return list;
+            }
+
+        };
+    }
+
+    @Override
+    public @NotNull JsonElement into(final @NotNull Long value)
+        throws @NotNull ScopedException
+    {
+        return this.into(value.longValue());
+    }
+
+    @Override
+    public @NotNull Long from(final @NotNull JsonElement value)
+        throws @NotNull ScopedException
+    {
+        return this.longFrom(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Numbers are converted without throwing, as are objects and nulls, which always fail. Other values are converted
+     * using {@link #from(JsonElement)}, which may throw internally if they are not valid.
+     *
+     * @since 0.1.0
+     */
+    @Override
+    public @NotNull Result<@NotNull Long> tryFrom(final @NotNull JsonElement value) {
+        final @Nullable Number number = JsonNumbers.numberOf(value);
+
+        if (Objects.nonNull(number)) {
+            return Result.success(number.longValue());
+        } else if (JsonNumbers.isNeverNumber(value)) {
+            return this.failedResult(this.fromScope, JsonConverter.unsupported(value));
+        }
+
+        return super.tryFrom(value);
+    }
+
+    @Override
+    public @NotNull Long read(final @NotNull JsonReader reader)
+        throws @NotNull ScopedException
+    {
+        return this.readLong(reader);
+    }
+
+    @Override
+    public void write(final @NotNull JsonWriter writer, final @NotNull Long value)
+        throws @NotNull ScopedException
+    {
+        this.write(writer, value.longValue());
+    }
+
+}
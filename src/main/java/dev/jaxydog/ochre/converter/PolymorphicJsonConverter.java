@@ -0,0 +1,377 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2025 Jaxydog
+ *
+ * This file is part of Ochre.
+ *
+ * Ochre is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Ochre is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Ochre. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.ochre.converter;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import dev.jaxydog.ochre.utility.FallibleFunction;
+import dev.jaxydog.ochre.utility.ScopedException;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A {@link JsonConverter} for a type with several subtypes, which are distinguished within JSON objects by a
+ * discriminator member holding a type tag, such as {@code {"type": "ochre:weighted", ...}}.
+ * <p>
+ * Each subtype is registered with a tag and a converter that converts the subtype to and from a JSON object. Values are
+ * converted from JSON by looking up their tag in a hash table, and into JSON by looking up their class through a
+ * {@link ClassValue}, so dispatch takes constant time regardless of the number of subtypes. The discriminator is
+ * written as the first member of each object, and subtype converters receive objects that still contain it.
+ *
+ * @param <T> The base type.
+ *
+ * @author Jaxydog
+ * @since 0.1.0
+ */
+public final class PolymorphicJsonConverter<T>
+    extends JsonConverter<T>
+{
+
+    /**
+     * The scope used while constructing a JSON object.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull Scope objectConstruction = this.createScope(Method.INTO.context("object construction"));
+    /**
+     * The scope used while resolving a JSON object.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull Scope objectResolution = this.createScope(Method.FROM.context("object resolution"));
+    /**
+     * The scope used while resolving the subtype of a JSON object.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull Scope subtypeResolution = this.createScope(Method.FROM.context("subtype resolution"));
+    /**
+     * The scope used while constructing a value.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull Scope valueConstruction = this.createScope(Method.FROM.context("value construction"));
+
+    /**
+     * Constructs a JSON object from a value.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull FallibleFunction<T, JsonObject, ScopedException> constructObject = this::constructObject;
+    /**
+     * Resolves the subtype of a JSON object.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull FallibleFunction<JsonObject, Subtype, ScopedException> resolveSubtype = this::resolveSubtype;
+
+    /**
+     * The base type.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull Class<T> type;
+    /**
+     * The name of the discriminator member.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull String discriminator;
+    /**
+     * The registered subtypes, in registration order.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull List<@NotNull Subtype> subtypes;
+    /**
+     * The registered subtypes, keyed by tag.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull Object2ObjectOpenHashMap<String, Subtype> subtypesByTag;
+    /**
+     * The subtype used to convert values of each class, or {@code null} if a class has no registered subtype.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull ClassValue<@Nullable Subtype> subtypesByClass = new ClassValue<>() {
+
+        @Override
+        protected @Nullable Subtype computeValue(final @NotNull Class<?> type) {
+            return PolymorphicJsonConverter.this.findSubtype(type);
+        }
+
+    };
+    /**
+     * This converter's shape.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull Shape shape;
+
+    /**
+     * Creates a new {@link PolymorphicJsonConverter}.
+     *
+     * @param type The base type.
+     * @param discriminator The name of the discriminator member.
+     * @param subtypes The registered subtypes, in registration order.
+     *
+     * @since 0.1.0
+     */
+    PolymorphicJsonConverter(
+        final @NotNull Class<T> type,
+        final @NotNull String discriminator,
+        final @NotNull List<@NotNull Subtype> subtypes
+    )
+    {
+        final @NotNull List<@NotNull Converter<?, ?>> children = new ObjectArrayList<>(subtypes.size());
+
+        this.type = type;
+        this.discriminator = discriminator;
+        this.subtypes = List.copyOf(subtypes);
+        this.subtypesByTag = new Object2ObjectOpenHashMap<>(subtypes.size());
+
+        for (final @NotNull Subtype subtype : subtypes) {
+            this.subtypesByTag.put(subtype.tag, subtype);
+
+            children.add(subtype.converter);
+        }
+
+        this.shape = new Shape(Shape.Kind.POLYMORPHIC, children, 0);
+    }
+
+    /**
+     * Returns a {@link PolymorphicJsonConverter} that also converts values of the given subtype.
+     * <p>
+     * The subtype's converter must convert values to and from JSON objects. Values whose class is not registered are
+     * converted by the first registered subtype that their class extends or implements.
+     *
+     * @param tag The subtype's tag.
+     * @param subtype The subtype's class.
+     * @param converter The subtype's converter.
+     * @param <S> The subtype.
+     *
+     * @return A new {@link PolymorphicJsonConverter}.
+     *
+     * @throws IllegalArgumentException If the tag or class is already registered, or the class is not a subtype of
+     *                                  this converter's base type.
+     * @since 0.1.0
+     */
+    public <S extends T> @NotNull PolymorphicJsonConverter<T> withSubtype(
+        final @NotNull String tag,
+        final @NotNull Class<S> subtype,
+        final @NotNull JsonConverter<S> converter
+    )
+        throws @NotNull IllegalArgumentException
+    {
+        if (!this.type.isAssignableFrom(subtype)) {
+            final @NotNull String format = "Class '%s' is not a subtype of '%s'";
+
+            throw new IllegalArgumentException(format.formatted(subtype.getName(), this.type.getName()));
+        }
+        if (this.subtypesByTag.containsKey(tag)) {
+            throw new IllegalArgumentException("Tag '%s' is already registered".formatted(tag));
+        }
+
+        for (final @NotNull Subtype registered : this.subtypes) {
+            if (registered.type != subtype) continue;
+
+            throw new IllegalArgumentException("Class '%s' is already registered".formatted(subtype.getName()));
+        }
+
+        final @NotNull List<@NotNull Subtype> subtypes = new ObjectArrayList<>(this.subtypes);
+
+        subtypes.add(new Subtype(tag, subtype, converter));
+
+        return new PolymorphicJsonConverter<>(this.type, this.discriminator, subtypes);
+    }
+
+    /**
+     * Finds the subtype used to convert values of the given class.
+     *
+     * @param type The class.
+     *
+     * @return The subtype, or {@code null} if the class has no registered subtype.
+     *
+     * @since 0.1.0
+     */
+    private @Nullable Subtype findSubtype(final @NotNull Class<?> type) {
+        for (final @NotNull Subtype subtype : this.subtypes) {
+            if (subtype.type == type) return subtype;
+        }
+        for (final @NotNull Subtype subtype : this.subtypes) {
+            if (subtype.type.isAssignableFrom(type)) return subtype;
+        }
+
+        return null;
+    }
+
+    @Override
+    public @NotNull Shape shape() {
+        return this.shape;
+    }
+
+    @Override
+    public @NotNull JsonElement into(final @NotNull T value)
+        throws @NotNull ScopedException
+    {
+        return this.runScoped(this.objectConstruction, this.constructObject, value);
+    }
+
+    @Override
+    public @NotNull T from(final @NotNull JsonElement value)
+        throws @NotNull ScopedException
+    {
+        final @NotNull JsonObject object = this.runScoped(this.objectResolution, JsonElement::getAsJsonObject, value);
+        final @NotNull Subtype subtype = this.runScoped(this.subtypeResolution, this.resolveSubtype, object);
+
+        return this.type.cast(this.runScoped(this.valueConstruction, subtype.from, object));
+    }
+
+    /**
+     * Constructs a JSON object from the given value, beginning with its discriminator.
+     *
+     * @param value The value.
+     *
+     * @return The JSON object.
+     *
+     * @throws ScopedException If the value's class has no registered subtype, or the value could not be converted.
+     * @since 0.1.0
+     */
+    private @NotNull JsonObject constructObject(final @NotNull T value)
+        throws @NotNull ScopedException
+    {
+        final @Nullable Subtype subtype = this.subtypesByClass.get(value.getClass());
+
+        if (Objects.isNull(subtype)) {
+            final @NotNull String format = "Class '%s' is not a registered subtype of '%s'";
+
+            throw new NoSuchElementException(format.formatted(value.getClass().getName(), this.type.getName()));
+        }
+
+        final @NotNull JsonObject converted = subtype.converter.into(value).getAsJsonObject();
+        final @NotNull JsonObject object = new JsonObject();
+
+        object.add(this.discriminator, subtype.tagElement);
+
+        for (final @NotNull Entry<String, JsonElement> entry : converted.entrySet()) {
+            if (!this.discriminator.equals(entry.getKey())) object.add(entry.getKey(), entry.getValue());
+        }
+
+        return object;
+    }
+
+    /**
+     * Resolves the subtype of the given JSON object from its discriminator.
+     *
+     * @param object The JSON object.
+     *
+     * @return The subtype.
+     *
+     * @throws ScopedException If the discriminator is missing or does not name a registered subtype.
+     * @since 0.1.0
+     */
+    private @NotNull Subtype resolveSubtype(final @NotNull JsonObject object)
+        throws @NotNull ScopedException
+    {
+        final @Nullable JsonElement element = object.get(this.discriminator);
+        final @NotNull NoSuchElementException exception;
+
+        if (Objects.isNull(element)) {
+            exception = new NoSuchElementException("Missing member '%s'".formatted(this.discriminator));
+        } else {
+            final @Nullable Subtype subtype = this.subtypesByTag.get(element.getAsString());
+
+            if (Objects.nonNull(subtype)) return subtype;
+
+            exception = new NoSuchElementException("Unknown type '%s'".formatted(element.getAsString()));
+        }
+
+        throw this.scopedFailure(this.subtypeResolution, exception, this.discriminator);
+    }
+
+    /**
+     * A registered subtype.
+     *
+     * @author Jaxydog
+     * @since 0.1.0
+     */
+    private static final class Subtype {
+
+        /**
+         * The subtype's tag.
+         *
+         * @since 0.1.0
+         */
+        private final @NotNull String tag;
+        /**
+         * The subtype's tag, as a {@link JsonElement}.
+         *
+         * @since 0.1.0
+         */
+        private final @NotNull JsonPrimitive tagElement;
+        /**
+         * The subtype's class.
+         *
+         * @since 0.1.0
+         */
+        private final @NotNull Class<?> type;
+        /**
+         * The subtype's converter.
+         *
+         * @since 0.1.0
+         */
+        private final @NotNull JsonConverter<Object> converter;
+        /**
+         * Converts a JSON object into a value of the subtype.
+         *
+         * @since 0.1.0
+         */
+        private final @NotNull FallibleFunction<JsonElement, Object, ScopedException> from;
+
+        /**
+         * Creates a new {@link Subtype}.
+         *
+         * @param tag The subtype's tag.
+         * @param type The subtype's class.
+         * @param converter The subtype's converter.
+         *
+         * @since 0.1.0
+         */
+        @SuppressWarnings("unchecked")
+        private Subtype(
+            final @NotNull String tag,
+            final @NotNull Class<?> type,
+            final @NotNull JsonConverter<?> converter
+        )
+        {
+            this.tag = tag;
+            this.tagElement = new JsonPrimitive(tag);
+            this.type = type;
+            this.converter = (JsonConverter<Object>) converter;
+            this.from = this.converter::from;
+        }
+
+    }
+
+}
@@ -0,0 +1,835 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2025 Jaxydog
+ *
+ * This file is part of Ochre.
+ *
+ * Ochre is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Ochre is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Ochre. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.ochre.converter;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import dev.jaxydog.ochre.utility.FallibleBiConsumer;
+import dev.jaxydog.ochre.utility.FallibleFunction;
+import dev.jaxydog.ochre.utility.Report;
+import dev.jaxydog.ochre.utility.ScopedException;
+import it.unimi.dsi.fastutil.doubles.DoubleList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A {@link JsonConverter} for a record class, derived at runtime from the record's components.
+ * <p>
+ * Each component is converted to and from a JSON object member of the same name. Component values are read through
+ * functions generated for the record's accessors, and records are created through a method handle for their canonical
+ * constructor, so reflection is only used while deriving a converter. Derived converters are cached per class; see
+ * {@link JsonConverter#ofRecord(Class)}.
+ * <p>
+ * The converter for each component is resolved from the component's generic type when the record is first converted,
+ * which allows records to contain themselves. Components may have the types supported by
+ * {@link GenerateJsonConverter}, with records taking the place of annotated types.
+ *
+ * @param <R> The record type.
+ *
+ * @author Jaxydog
+ * @since 0.1.0
+ */
+public final class RecordJsonConverter<R extends Record>
+    extends JsonConverter<R>
+{
+
+    /**
+     * The converters derived for each record class.
+     *
+     * @since 0.1.0
+     */
+    private static final ClassValue<RecordJsonConverter<?>> CONVERTERS = new ClassValue<>() {
+
+        @Override
+        protected @NotNull RecordJsonConverter<?> computeValue(final @NotNull Class<?> type) {
+            if (!type.isRecord()) {
+                throw new IllegalArgumentException("Class '%s' is not a record".formatted(type.getName()));
+            }
+
+            return new RecordJsonConverter<>(type.asSubclass(Record.class));
+        }
+
+    };
+
+    /**
+     * A handle for {@link #members}, used to publish it atomically.
+     *
+     * @since 0.1.0
+     */
+    private static final @NotNull VarHandle MEMBERS =
+        JsonConverter.memoHandle(MethodHandles.lookup(), "members", Member[].class);
+
+    /**
+     * The scope used while constructing a JSON object.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull Scope objectConstruction = this.createScope(Method.INTO.context("object construction"));
+    /**
+     * The scope used while converting a component into a JSON object member.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull Scope intoMember = this.createScope(Method.INTO.context("member conversion"));
+    /**
+     * The scope used while resolving a JSON object.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull Scope objectResolution = this.createScope(Method.FROM.context("object resolution"));
+    /**
+     * The scope used while constructing a record.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull Scope valueConstruction = this.createScope(Method.FROM.context("value construction"));
+    /**
+     * The scope used while converting a JSON object member into a component.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull Scope fromMember = this.createScope(Method.FROM.context("member conversion"));
+
+    /**
+     * Constructs a JSON object from a record.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull FallibleFunction<R, JsonObject, ScopedException> constructObject = this::constructObject;
+    /**
+     * Constructs a record from a JSON object.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull FallibleFunction<JsonObject, R, ScopedException> constructValue = this::constructValue;
+    /**
+     * Writes a record as a JSON object.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull FallibleBiConsumer<JsonWriter, R, IOException> writeObject = this::writeObject;
+    /**
+     * Reads a record from a JSON object.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull FallibleFunction<JsonReader, R, IOException> readValue = this::readValue;
+    /**
+     * Creates a record from an array of component values.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull FallibleFunction<Object[], R, RuntimeException> instantiate = this::instantiate;
+    /**
+     * Constructs a record from an updated JSON object, reusing the components of a previous record.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull FallibleFunction<Revision<R>, R, ScopedException> reconstructValue = this::reconstructValue;
+
+    /**
+     * The record class.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull Class<R> type;
+    /**
+     * The record's components, in declaration order.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull RecordComponent @NotNull [] components;
+    /**
+     * The accessors of the record's components, each accepting a record and returning the component's value.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull Function<Object, Object> @NotNull [] accessors;
+    /**
+     * The record's canonical constructor, accepting an array of component values and returning an {@link Object}.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull MethodHandle constructor;
+    /**
+     * The index of each component, keyed by its name.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull Object2IntOpenHashMap<String> indices;
+
+    /**
+     * The record's members, resolved on first conversion.
+     *
+     * @since 0.1.0
+     */
+    private volatile @NotNull Member @Nullable [] members;
+
+    /**
+     * Creates a new {@link RecordJsonConverter}.
+     *
+     * @param type The record class.
+     *
+     * @throws IllegalArgumentException If the record's accessors or constructor cannot be accessed.
+     * @since 0.1.0
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private RecordJsonConverter(final @NotNull Class<R> type)
+        throws @NotNull IllegalArgumentException
+    {
+        this.type = type;
+        this.components = type.getRecordComponents();
+        this.accessors = new Function[this.components.length];
+        this.indices = new Object2IntOpenHashMap<>(this.components.length);
+        this.indices.defaultReturnValue(-1);
+
+        final @NotNull Class<?>[] parameterTypes = new Class<?>[this.components.length];
+
+        try {
+            final @NotNull Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+
+            for (int index = 0; index < this.components.length; index += 1) {
+                final @NotNull RecordComponent component = this.components[index];
+
+                this.accessors[index] = RecordJsonConverter.accessorOf(lookup, component);
+                this.indices.put(component.getName(), index);
+
+                parameterTypes[index] = component.getType();
+            }
+
+            this.constructor = lookup.unreflectConstructor(type.getDeclaredConstructor(parameterTypes))
+                .asSpreader(Object[].class, this.components.length)
+                .asType(MethodType.methodType(Object.class, Object[].class));
+        } catch (final @NotNull ReflectiveOperationException | SecurityException exception) {
+            final @NotNull String message = "Record '%s' cannot be accessed".formatted(type.getName());
+
+            throw new IllegalArgumentException(message, exception);
+        }
+    }
+
+    /**
+     * Returns a function that calls the accessor of the given component.
+     * <p>
+     * The function is generated through {@link LambdaMetafactory}, allowing the JIT compiler to inline the accessor as
+     * it would a lambda expression. If the record cannot be accessed fully, such as when it is declared in another
+     * module, the function instead invokes a method handle for the accessor.
+     *
+     * @param lookup A lookup within the record class.
+     * @param component The component whose accessor to call.
+     *
+     * @return The function.
+     *
+     * @throws IllegalAccessException If the accessor cannot be accessed.
+     * @since 0.1.0
+     */
+    @SuppressWarnings("unchecked")
+    private static @NotNull Function<Object, Object> accessorOf(
+        final @NotNull Lookup lookup,
+        final @NotNull RecordComponent component
+    )
+        throws @NotNull IllegalAccessException
+    {
+        final @NotNull MethodHandle handle = lookup.unreflect(component.getAccessor());
+
+        if (lookup.hasFullPrivilegeAccess()) {
+            try {
+                final @NotNull CallSite site = LambdaMetafactory.metafactory(
+                    lookup,
+                    "apply",
+                    MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class),
+                    handle,
+                    handle.type().wrap()
+                );
+
+                return (Function<Object, Object>) site.getTarget().invokeExact();
+            } catch (final @NotNull Throwable throwable) {
+                // Fall back to invoking the method handle, which is slower but supports any accessible accessor.
+            }
+        }
+
+        final @NotNull MethodHandle generic = handle.asType(MethodType.methodType(Object.class, Object.class));
+
+        return record -> {
+            try {
+                return generic.invokeExact(record);
+            } catch (final @NotNull RuntimeException | Error exception) {
+                throw exception;
+            } catch (final @NotNull Throwable throwable) {
+                throw new UndeclaredThrowableException(throwable);
+            }
+        };
+    }
+
+    /**
+     * Returns the converter derived for the given record class.
+     *
+     * @param type The record class.
+     * @param <R> The record type.
+     *
+     * @return The converter.
+     *
+     * @throws IllegalArgumentException If the class is not a record, cannot be accessed, or has a component that
+     *                                  cannot be converted.
+     * @since 0.1.0
+     */
+    static <R extends Record> @NotNull RecordJsonConverter<R> of(final @NotNull Class<R> type)
+        throws @NotNull IllegalArgumentException
+    {
+        final @NotNull RecordJsonConverter<R> converter = RecordJsonConverter.derive(type);
+
+        converter.members();
+
+        return converter;
+    }
+
+    /**
+     * Returns the converter derived for the given record class, without resolving its members.
+     *
+     * @param type The record class.
+     * @param <R> The record type.
+     *
+     * @return The converter.
+     *
+     * @throws IllegalArgumentException If the class is not a record or cannot be accessed.
+     * @since 0.1.0
+     */
+    @SuppressWarnings("unchecked")
+    private static <R extends Record> @NotNull RecordJsonConverter<R> derive(final @NotNull Class<R> type)
+        throws @NotNull IllegalArgumentException
+    {
+        return (RecordJsonConverter<R>) RecordJsonConverter.CONVERTERS.get(type);
+    }
+
+    /**
+     * Returns a converter for values of the given type.
+     *
+     * @param type The type.
+     *
+     * @return The converter.
+     *
+     * @throws IllegalArgumentException If values of the given type cannot be converted.
+     * @since 0.1.0
+     */
+    private static @NotNull JsonConverter<?> converterOf(final @NotNull Type type)
+        throws @NotNull IllegalArgumentException
+    {
+        if (type instanceof final @NotNull Class<?> rawType) {
+            if (rawType == boolean.class || rawType == Boolean.class) return JsonConverter.BOOLEAN;
+            if (rawType == byte.class || rawType == Byte.class) return JsonConverter.BYTE;
+            if (rawType == short.class || rawType == Short.class) return JsonConverter.SHORT;
+            if (rawType == int.class || rawType == Integer.class) return JsonConverter.INTEGER;
+            if (rawType == long.class || rawType == Long.class) return JsonConverter.LONG;
+            if (rawType == float.class || rawType == Float.class) return JsonConverter.FLOAT;
+            if (rawType == double.class || rawType == Double.class) return JsonConverter.DOUBLE;
+            if (rawType == Number.class) return JsonConverter.NUMBER;
+            if (rawType == String.class) return JsonConverter.STRING;
+            if (rawType == Identifier.class) return JsonConverter.IDENTIFIER;
+            if (rawType == IntList.class) return JsonConverter.INTEGER.intList();
+            if (rawType == LongList.class) return JsonConverter.LONG.longList();
+            if (rawType == DoubleList.class) return JsonConverter.DOUBLE.doubleList();
+            if (rawType.isEnum()) return RecordJsonConverter.enumConverterOf(rawType);
+            // Nested records resolve their own members on first conversion, allowing a record to contain itself.
+            if (rawType.isRecord()) return RecordJsonConverter.derive(rawType.asSubclass(Record.class));
+        } else if (type instanceof final @NotNull ParameterizedType parameterized) {
+            final @NotNull Type[] arguments = parameterized.getActualTypeArguments();
+
+            if (parameterized.getRawType() == List.class) {
+                return RecordJsonConverter.converterOf(arguments[0]).list();
+            }
+            if (parameterized.getRawType() == Map.class && arguments[0] == String.class) {
+                return RecordJsonConverter.converterOf(arguments[1]).map();
+            }
+        }
+
+        throw new IllegalArgumentException("Values of type '%s' cannot be converted".formatted(type.getTypeName()));
+    }
+
+    /**
+     * Returns the default converter for the given enum class.
+     *
+     * @param type The enum class.
+     *
+     * @return The converter.
+     *
+     * @since 0.1.0
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static @NotNull JsonConverter<?> enumConverterOf(final @NotNull Class<?> type) {
+        return JsonConverter.ofEnum((Class) type);
+    }
+
+    /**
+     * Returns the record's members, resolving them if this is the first access.
+     *
+     * @return The members.
+     *
+     * @throws IllegalArgumentException If a component cannot be converted.
+     * @since 0.1.0
+     */
+    private @NotNull Member @NotNull [] members()
+        throws @NotNull IllegalArgumentException
+    {
+        final @NotNull Member @Nullable [] members = this.members;
+
+        if (Objects.nonNull(members)) return members;
+
+        return JsonConverter.memoize(RecordJsonConverter.MEMBERS, this, this.resolveMembers());
+    }
+
+    /**
+     * Resolves the converter of each of the record's components.
+     *
+     * @return The members.
+     *
+     * @throws IllegalArgumentException If a component cannot be converted.
+     * @since 0.1.0
+     */
+    private @NotNull Member @NotNull [] resolveMembers()
+        throws @NotNull IllegalArgumentException
+    {
+        final @NotNull Member[] members = new Member[this.components.length];
+
+        for (int index = 0; index < members.length; index += 1) {
+            final @NotNull RecordComponent component = this.components[index];
+            final @NotNull JsonConverter<?> converter;
+
+            try {
+                converter = RecordJsonConverter.converterOf(component.getGenericType());
+            } catch (final @NotNull IllegalArgumentException exception) {
+                final @NotNull String format = "Component '%s' of record '%s' cannot be converted";
+                final @NotNull String message = format.formatted(component.getName(), this.type.getName());
+
+                throw new IllegalArgumentException(message, exception);
+            }
+
+            members[index] = new Member(component.getName(), this.accessors[index], converter);
+        }
+
+        return members;
+    }
+
+    @Override
+    public @NotNull Shape shape()
+        throws @NotNull IllegalArgumentException
+    {
+        final @NotNull Member[] members = this.members();
+        final @NotNull List<@NotNull Converter<?, ?>> children = new ObjectArrayList<>(members.length);
+
+        for (final @NotNull Member member : members) children.add(member.converter);
+
+        return new Shape(Shape.Kind.RECORD, children, 0);
+    }
+
+    @Override
+    public @NotNull JsonElement into(final @NotNull R value)
+        throws @NotNull ScopedException
+    {
+        return this.runScoped(this.objectConstruction, this.constructObject, value);
+    }
+
+    @Override
+    public @NotNull R from(final @NotNull JsonElement value)
+        throws @NotNull ScopedException
+    {
+        final @NotNull JsonObject object = this.runScoped(this.objectResolution, JsonElement::getAsJsonObject, value);
+
+        return this.runScoped(this.valueConstruction, this.constructValue, object);
+    }
+
+    @Override
+    public @NotNull Report<@NotNull R> tryFromAll(final @NotNull JsonElement value) {
+        if (this.isEnforcingBudget() || !(value instanceof final @NotNull JsonObject object)) {
+            return Report.of(this.tryFrom(value));
+        }
+
+        final @NotNull Member[] members = this.members();
+        final @Nullable Object[] values = new Object[members.length];
+        final @NotNull List<@NotNull ScopedException> errors = new ObjectArrayList<>();
+
+        for (int index = 0; index < members.length; index += 1) {
+            final @NotNull Member member = members[index];
+            final @Nullable JsonElement element = object.get(member.name);
+
+            if (Objects.isNull(element)) {
+                errors.add(this.enclose(this.valueConstruction, this.missingMember(member.name)));
+
+                continue;
+            }
+
+            final @NotNull Report<?> report = member.converter.tryFromAll(element);
+
+            for (final @NotNull ScopedException error : report.errors()) {
+                errors.add(this.enclose(this.valueConstruction, this.enclose(this.fromMember, error, member.name)));
+            }
+
+            values[index] = report.value();
+        }
+
+        if (!errors.isEmpty()) return new Report<>(null, errors);
+
+        final @NotNull FallibleFunction<Object[], R, ScopedException> construct =
+            array -> this.runScoped(this.valueConstruction, this.instantiate, array);
+
+        return Report.of(this.attempt(construct, values));
+    }
+
+    @Override
+    public @NotNull R reconvert(
+        final @NotNull JsonElement previous,
+        final @NotNull R previousValue,
+        final @NotNull JsonElement value
+    )
+        throws @NotNull ScopedException
+    {
+        if (!(previous instanceof JsonObject) || !(value instanceof JsonObject)) {
+            return super.reconvert(previous, previousValue, value);
+        }
+        final @NotNull Revision<R> revision = new Revision<>(previous, previousValue, value);
+
+        return this.runScoped(this.valueConstruction, this.reconstructValue, revision);
+    }
+
+    @Override
+    public @NotNull R read(final @NotNull JsonReader reader)
+        throws @NotNull ScopedException
+    {
+        return this.runScoped(this.valueConstruction, this.readValue, reader);
+    }
+
+    @Override
+    public void write(final @NotNull JsonWriter writer, final @NotNull R value)
+        throws @NotNull ScopedException
+    {
+        this.runScoped(this.objectConstruction, this.writeObject, writer, value);
+    }
+
+    /**
+     * Constructs a JSON object from the given record.
+     *
+     * @param value The record.
+     *
+     * @return The JSON object.
+     *
+     * @throws ScopedException If a component could not be converted.
+     * @since 0.1.0
+     */
+    private @NotNull JsonObject constructObject(final @NotNull R value)
+        throws @NotNull ScopedException
+    {
+        final @NotNull JsonObject object = new JsonObject();
+
+        for (final @NotNull Member member : this.members()) {
+            object.add(member.name, this.runScoped(this.intoMember, member.into, value, member.name));
+        }
+
+        return object;
+    }
+
+    /**
+     * Constructs a record from the given JSON object.
+     *
+     * @param object The JSON object.
+     *
+     * @return The record.
+     *
+     * @throws ScopedException If a member is missing or could not be converted.
+     * @since 0.1.0
+     */
+    private @NotNull R constructValue(final @NotNull JsonObject object)
+        throws @NotNull ScopedException
+    {
+        final @NotNull Member[] members = this.members();
+        final @Nullable Object[] values = new Object[members.length];
+
+        for (int index = 0; index < members.length; index += 1) {
+            final @NotNull Member member = members[index];
+            final @Nullable JsonElement element = object.get(member.name);
+
+            if (Objects.isNull(element)) throw this.missingMember(member.name);
+
+            values[index] = this.runScoped(this.fromMember, member.from, element, member.name);
+        }
+
+        return this.instantiate(values);
+    }
+
+    /**
+     * Constructs a record from an updated JSON object, reusing the components of the previous record whose members did
+     * not change.
+     *
+     * @param revision The previous and updated JSON objects, and the previous record.
+     *
+     * @return The previous record if no members changed, otherwise a new record.
+     *
+     * @throws ScopedException If a member is missing or could not be converted.
+     * @since 0.1.0
+     */
+    private @NotNull R reconstructValue(final @NotNull Revision<R> revision)
+        throws @NotNull ScopedException
+    {
+        final @NotNull JsonObject previous = revision.previous().getAsJsonObject();
+        final @NotNull JsonObject object = revision.value().getAsJsonObject();
+        final @NotNull Member[] members = this.members();
+        final @Nullable Object[] values = new Object[members.length];
+
+        boolean changed = false;
+
+        for (int index = 0; index < members.length; index += 1) {
+            final @NotNull Member member = members[index];
+            final @Nullable JsonElement element = object.get(member.name);
+            final @Nullable JsonElement previousElement = previous.get(member.name);
+
+            if (Objects.isNull(element)) throw this.missingMember(member.name);
+
+            if (Objects.isNull(previousElement)) {
+                values[index] = this.runScoped(this.fromMember, member.from, element, member.name);
+                changed = true;
+            } else {
+                final @Nullable Object previousComponent = member.accessor.apply(revision.previousValue());
+
+                if (JsonConverter.isUnchangedPrimitive(previousElement, element)) {
+                    values[index] = previousComponent;
+
+                    continue;
+                }
+
+                final @NotNull Revision<Object> component = new Revision<>(previousElement, previousComponent, element);
+
+                values[index] = this.runScoped(this.fromMember, member.reconvert, component, member.name);
+                changed |= values[index] != previousComponent;
+            }
+        }
+
+        return changed ? this.instantiate(values) : revision.previousValue();
+    }
+
+    /**
+     * Writes the given record as a JSON object.
+     *
+     * @param writer The writer.
+     * @param value The record.
+     *
+     * @throws IOException If the object could not be written.
+     * @throws ScopedException If a component could not be converted.
+     * @since 0.1.0
+     */
+    private void writeObject(final @NotNull JsonWriter writer, final @NotNull R value)
+        throws @NotNull IOException, @NotNull ScopedException
+    {
+        writer.beginObject();
+
+        for (final @NotNull Member member : this.members()) {
+            writer.name(member.name);
+
+            this.runScoped(this.intoMember, member.write, writer, value, member.name);
+        }
+
+        writer.endObject();
+    }
+
+    /**
+     * Reads a record from a JSON object.
+     *
+     * @param reader The reader.
+     *
+     * @return The record.
+     *
+     * @throws IOException If the object could not be read.
+     * @throws ScopedException If a member is missing or could not be converted.
+     * @since 0.1.0
+     */
+    private @NotNull R readValue(final @NotNull JsonReader reader)
+        throws @NotNull IOException, @NotNull ScopedException
+    {
+        final @NotNull Member[] members = this.members();
+        final @Nullable Object[] values = new Object[members.length];
+        final boolean[] present = new boolean[members.length];
+
+        reader.beginObject();
+
+        while (reader.hasNext()) {
+            final int index = this.indices.getInt(reader.nextName());
+
+            if (index < 0) {
+                reader.skipValue();
+            } else {
+                final @NotNull Member member = members[index];
+
+                values[index] = this.runScoped(this.fromMember, member.read, reader, member.name);
+                present[index] = true;
+            }
+        }
+
+        reader.endObject();
+
+        for (int index = 0; index < members.length; index += 1) {
+            if (!present[index]) throw this.missingMember(members[index].name);
+        }
+
+        return this.instantiate(values);
+    }
+
+    /**
+     * Creates a record from the given component values.
+     *
+     * @param values The component values, in declaration order.
+     *
+     * @return The record.
+     *
+     * @since 0.1.0
+     */
+    private @NotNull R instantiate(final @Nullable Object @NotNull [] values) {
+        try {
+            return this.type.cast(this.constructor.invokeExact(values));
+        } catch (final @NotNull RuntimeException | Error exception) {
+            throw exception;
+        } catch (final @NotNull Throwable throwable) {
+            throw new UndeclaredThrowableException(throwable);
+        }
+    }
+
+    /**
+     * Creates an exception for a missing JSON object member.
+     *
+     * @param name The member's name.
+     *
+     * @return The exception.
+     *
+     * @since 0.1.0
+     */
+    private @NotNull ScopedException missingMember(final @NotNull String name) {
+        final @NotNull String message = "Missing member '%s'".formatted(name);
+
+        return this.scopedFailure(this.fromMember, new NoSuchElementException(message), name);
+    }
+
+    /**
+     * A record component, paired with the converter for its type.
+     *
+     * @author Jaxydog
+     * @since 0.1.0
+     */
+    private static final class Member {
+
+        /**
+         * The component's name, used as its key within JSON objects.
+         *
+         * @since 0.1.0
+         */
+        private final @NotNull String name;
+        /**
+         * The component's accessor, accepting a record and returning the component's value.
+         *
+         * @since 0.1.0
+         */
+        private final @NotNull Function<Object, Object> accessor;
+        /**
+         * The converter for the component's type.
+         *
+         * @since 0.1.0
+         */
+        private final @NotNull JsonConverter<Object> converter;
+        /**
+         * Reads the component from a record and converts it into a {@link JsonElement}.
+         *
+         * @since 0.1.0
+         */
+        private final @NotNull FallibleFunction<Object, JsonElement, ScopedException> into;
+        /**
+         * Converts a {@link JsonElement} into a component value.
+         *
+         * @since 0.1.0
+         */
+        private final @NotNull FallibleFunction<JsonElement, Object, ScopedException> from;
+        /**
+         * Converts an updated {@link JsonElement} into a component value, reusing a previous value if possible.
+         *
+         * @since 0.1.0
+         */
+        private final @NotNull FallibleFunction<Revision<Object>, Object, ScopedException> reconvert;
+        /**
+         * Reads a component value.
+         *
+         * @since 0.1.0
+         */
+        private final @NotNull FallibleFunction<JsonReader, Object, ScopedException> read;
+        /**
+         * Reads the component from a record and writes it.
+         *
+         * @since 0.1.0
+         */
+        private final @NotNull FallibleBiConsumer<JsonWriter, Object, ScopedException> write;
+
+        /**
+         * Creates a new {@link Member}.
+         *
+         * @param name The component's name.
+         * @param accessor The component's accessor.
+         * @param converter The converter for the component's type.
+         *
+         * @since 0.1.0
+         */
+        @SuppressWarnings("unchecked")
+        private Member(
+            final @NotNull String name,
+            final @NotNull Function<Object, Object> accessor,
+            final @NotNull JsonConverter<?> converter
+        )
+        {
+            final @NotNull JsonConverter<Object> objectConverter = (JsonConverter<Object>) converter;
+
+            this.name = name;
+            this.accessor = accessor;
+            this.converter = objectConverter;
+            this.into = record -> objectConverter.into(accessor.apply(record));
+            this.from = objectConverter::from;
+            this.reconvert = revision -> objectConverter.reconvert(
+                revision.previous(),
+                revision.previousValue(),
+                revision.value()
+            );
+            this.read = objectConverter::read;
+            this.write = (writer, record) -> objectConverter.write(writer, accessor.apply(record));
+        }
+
+    }
+
+}
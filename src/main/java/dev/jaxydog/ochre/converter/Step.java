@@ -0,0 +1,154 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2025 Jaxydog
+ *
+ * This file is part of Ochre.
+ *
+ * Ochre is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Ochre is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Ochre. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.ochre.converter;
+
+import dev.jaxydog.ochre.utility.FallibleFunction;
+import dev.jaxydog.ochre.utility.Report;
+import dev.jaxydog.ochre.utility.Result;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A single step within a chain of composed conversion functions.
+ * <p>
+ * Fused converters run their steps one after another, and record the action of a failed step within their failure so
+ * that it remains as specific as if each step were run by its own converter. Steps that run a converter also provide
+ * a function that returns the converter's failures rather than throwing them, allowing fused converters to do the same,
+ * and steps that convert from a converter's second type provide one that reports every failure.
+ *
+ * @param function The function run by this step.
+ * @param action The action performed by this step.
+ * @param attempt The function run by this step that returns its failure rather than throwing it, if any.
+ * @param attemptAll The function run by this step that reports every failure, if any.
+ *
+ * @author Jaxydog
+ * @since 0.1.0
+ */
+record Step(
+    @NotNull FallibleFunction<Object, Object, ? extends Exception> function,
+    @NotNull String action,
+    @Nullable Function<Object, Result<Object>> attempt,
+    @Nullable Function<Object, Report<Object>> attemptAll
+)
+{
+
+    /**
+     * The action of a step that runs a converter.
+     *
+     * @since 0.1.0
+     */
+    static final @NotNull String CONVERSION = "conversion";
+    /**
+     * The action of a step that runs a mapping function.
+     *
+     * @since 0.1.0
+     */
+    static final @NotNull String MAPPING = "mapping";
+
+    /**
+     * Returns a new step that runs a converter using the given functions.
+     *
+     * @param function The function.
+     * @param attempt The function that returns its failure rather than throwing it.
+     * @param attemptAll The function that reports every failure, if any.
+     * @param <A> The type of the function's argument.
+     * @param <B> The type of the function's result.
+     *
+     * @return A new {@link Step}.
+     *
+     * @since 0.1.0
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    static <A, B> @NotNull Step conversion(
+        final @NotNull FallibleFunction<A, B, ? extends Exception> function,
+        final @NotNull Function<A, Result<B>> attempt,
+        final @Nullable Function<A, Report<B>> attemptAll
+    )
+    {
+        return new Step(
+            (FallibleFunction<Object, Object, ? extends Exception>) function,
+            Step.CONVERSION,
+            (Function) attempt,
+            (Function) attemptAll
+        );
+    }
+
+    /**
+     * Returns a new step that runs the given mapping function.
+     *
+     * @param function The mapping function.
+     * @param <A> The type of the function's argument.
+     * @param <B> The type of the function's result.
+     *
+     * @return A new {@link Step}.
+     *
+     * @since 0.1.0
+     */
+    @SuppressWarnings("unchecked")
+    static <A, B> @NotNull Step mapping(final @NotNull Function<A, B> function) {
+        final @NotNull FallibleFunction<A, B, RuntimeException> fallible = FallibleFunction.fromInfallible(function);
+
+        return new Step((FallibleFunction<Object, Object, ? extends Exception>) fallible, Step.MAPPING, null, null);
+    }
+
+    /**
+     * Returns the given steps followed by the other given steps.
+     *
+     * @param first The steps to run first.
+     * @param second The steps to run second.
+     *
+     * @return A new list of steps.
+     *
+     * @since 0.1.0
+     */
+    static @NotNull List<@NotNull Step> concat(
+        final @NotNull List<@NotNull Step> first,
+        final @NotNull List<@NotNull Step> second
+    )
+    {
+        final @NotNull List<@NotNull Step> steps = new ArrayList<>(first.size() + second.size());
+
+        steps.addAll(first);
+        steps.addAll(second);
+
+        return steps;
+    }
+
+    /**
+     * Returns the context of the failures of a step that performs the given action at the given index within its
+     * chain.
+     *
+     * @param method The method being run.
+     * @param action The action performed by the step.
+     * @param index The index of the step.
+     *
+     * @return The context.
+     *
+     * @since 0.1.0
+     */
+    static @NotNull Converter.Context context(
+        final @NotNull Converter.Method method,
+        final @NotNull String action,
+        final int index
+    )
+    {
+        return method.context("%s (step %d)".formatted(action, index + 1));
+    }
+
+}
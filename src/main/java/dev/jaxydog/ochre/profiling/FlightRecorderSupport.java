@@ -0,0 +1,125 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2025 Jaxydog
+ *
+ * This file is part of Ochre.
+ *
+ * Ochre is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Ochre is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Ochre. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.ochre.profiling;
+
+import dev.jaxydog.ochre.utility.Scoped;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reports conversions, validations, and scope failures to JDK Flight Recorder.
+ * <p>
+ * Once registered, Ochre's events are listed alongside the JDK's own and may be enabled, disabled, and given thresholds
+ * through the usual recording settings. A {@link Scoped.Listener} is only installed while a recording has at least one
+ * of these events enabled, so scopes pay nothing for profiling otherwise.
+ *
+ * @author Jaxydog
+ * @since 0.1.0
+ */
+public final class FlightRecorderSupport {
+
+    /**
+     * The event types reported by Ochre.
+     *
+     * @since 0.1.0
+     */
+    private static final List<Class<? extends Event>> EVENT_CLASSES =
+        List.of(ConversionEvent.class, ValidationEvent.class, ScopeFailureEvent.class);
+
+    /**
+     * Whether the event types have been registered.
+     *
+     * @since 0.1.0
+     */
+    private static boolean registered;
+    /**
+     * The currently installed recorder, if any.
+     * <p>
+     * A new recorder is installed whenever the set of enabled events changes, so that no recorder observes scopes
+     * that were entered before it was installed.
+     *
+     * @since 0.1.0
+     */
+    private static @Nullable ScopeEventRecorder recorder;
+
+    /**
+     * Prevents this class from being instantiated.
+     *
+     * @since 0.1.0
+     */
+    private FlightRecorderSupport() { }
+
+    /**
+     * Registers Ochre's event types with Flight Recorder, if it is available.
+     * <p>
+     * Calling this more than once has no effect.
+     *
+     * @since 0.1.0
+     */
+    public static synchronized void register() {
+        if (FlightRecorderSupport.registered || !FlightRecorder.isAvailable()) return;
+
+        FlightRecorderSupport.registered = true;
+
+        for (final @NotNull Class<? extends Event> eventClass : FlightRecorderSupport.EVENT_CLASSES) {
+            FlightRecorder.register(eventClass);
+        }
+
+        FlightRecorder.addListener(new FlightRecorderListener() {
+
+            @Override
+            public void recordingStateChanged(final @NotNull Recording recording) {
+                FlightRecorderSupport.update();
+            }
+
+        });
+
+        FlightRecorderSupport.update();
+    }
+
+    /**
+     * Installs or removes the recorder depending on whether any of Ochre's events are enabled.
+     *
+     * @since 0.1.0
+     */
+    private static synchronized void update() {
+        final boolean conversions = EventType.getEventType(ConversionEvent.class).isEnabled();
+        final boolean validations = EventType.getEventType(ValidationEvent.class).isEnabled();
+        final boolean failures = EventType.getEventType(ScopeFailureEvent.class).isEnabled();
+        final @Nullable ScopeEventRecorder current = FlightRecorderSupport.recorder;
+
+        if (Objects.nonNull(current) && current.records(conversions, validations, failures)) return;
+        if (Objects.nonNull(current)) Scoped.removeListener(current);
+
+        if (conversions || validations || failures) {
+            final @NotNull ScopeEventRecorder updated = new ScopeEventRecorder(conversions, validations, failures);
+
+            Scoped.addListener(updated);
+
+            FlightRecorderSupport.recorder = updated;
+        } else {
+            FlightRecorderSupport.recorder = null;
+        }
+    }
+
+}
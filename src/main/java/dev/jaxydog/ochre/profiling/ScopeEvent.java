@@ -0,0 +1,72 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2025 Jaxydog
+ *
+ * This file is part of Ochre.
+ *
+ * Ochre is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Ochre is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Ochre. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.ochre.profiling;
+
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A Flight Recorder event spanning a single {@link dev.jaxydog.ochre.utility.Scoped.Scope}.
+ *
+ * @author Jaxydog
+ * @since 0.1.0
+ */
+abstract class ScopeEvent
+    extends Event
+{
+
+    /**
+     * The type of the scope's source.
+     *
+     * @since 0.1.0
+     */
+    @Label("Source Type")
+    @Description("The type of the converter or validator")
+    @Nullable Class<?> sourceType;
+    /**
+     * The identity hash code of the scope's source, distinguishing instances of the same type.
+     *
+     * @since 0.1.0
+     */
+    @Label("Source Identity")
+    @Description("The identity hash code of the converter or validator")
+    int sourceIdentity;
+    /**
+     * The number of scopes entered directly within this scope, such as the elements of a list.
+     *
+     * @since 0.1.0
+     */
+    @Label("Elements")
+    @Description("The number of steps taken directly within this step, such as the elements of a collection")
+    int elements;
+    /**
+     * Whether the scope failed, rather than a scope nested within it.
+     *
+     * @since 0.1.0
+     */
+    @Label("Failed")
+    @Description("Whether this step threw an exception, rather than a step nested within it")
+    boolean failed;
+
+    /**
+     * Creates a new {@link ScopeEvent}.
+     *
+     * @since 0.1.0
+     */
+    ScopeEvent() { }
+
+}
@@ -0,0 +1,210 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2025 Jaxydog
+ *
+ * This file is part of Ochre.
+ *
+ * Ochre is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Ochre is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Ochre. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.ochre.profiling;
+
+import dev.jaxydog.ochre.converter.Converter;
+import dev.jaxydog.ochre.utility.Scoped;
+import dev.jaxydog.ochre.utility.ScopedException;
+import dev.jaxydog.ochre.validator.Validator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link Scoped.Listener} that reports scopes as Flight Recorder events.
+ *
+ * @author Jaxydog
+ * @since 0.1.0
+ */
+final class ScopeEventRecorder
+    implements Scoped.Listener
+{
+
+    /**
+     * The scopes that are currently active on each thread, paired with their events.
+     *
+     * @since 0.1.0
+     */
+    private final @NotNull ThreadLocal<List<@NotNull Frame>> frames = ThreadLocal.withInitial(ArrayList::new);
+
+    /**
+     * Whether {@link ConversionEvent}s are enabled.
+     *
+     * @since 0.1.0
+     */
+    private final boolean conversions;
+    /**
+     * Whether {@link ValidationEvent}s are enabled.
+     *
+     * @since 0.1.0
+     */
+    private final boolean validations;
+    /**
+     * Whether {@link ScopeFailureEvent}s are enabled.
+     *
+     * @since 0.1.0
+     */
+    private final boolean failures;
+
+    /**
+     * Creates a new {@link ScopeEventRecorder}.
+     *
+     * @param conversions Whether {@link ConversionEvent}s are enabled.
+     * @param validations Whether {@link ValidationEvent}s are enabled.
+     * @param failures Whether {@link ScopeFailureEvent}s are enabled.
+     *
+     * @since 0.1.0
+     */
+    ScopeEventRecorder(final boolean conversions, final boolean validations, final boolean failures) {
+        this.conversions = conversions;
+        this.validations = validations;
+        this.failures = failures;
+    }
+
+    /**
+     * Returns whether this recorder records exactly the given events.
+     *
+     * @param conversions Whether {@link ConversionEvent}s are enabled.
+     * @param validations Whether {@link ValidationEvent}s are enabled.
+     * @param failures Whether {@link ScopeFailureEvent}s are enabled.
+     *
+     * @return Whether this recorder records the given events.
+     *
+     * @since 0.1.0
+     */
+    boolean records(final boolean conversions, final boolean validations, final boolean failures) {
+        return this.conversions == conversions && this.validations == validations && this.failures == failures;
+    }
+
+    /**
+     * Creates a new event for the given scope.
+     *
+     * @param scope The scope.
+     *
+     * @return A new event, or {@code null} if the scope's events are not enabled.
+     *
+     * @since 0.1.0
+     */
+    private @Nullable ScopeEvent createEvent(final @NotNull Scoped<?>.Scope scope) {
+        final @NotNull Object context = scope.getContext();
+
+        if (this.conversions && context instanceof final @NotNull Converter.Context conversion) {
+            final @NotNull ConversionEvent event = new ConversionEvent();
+
+            event.method = conversion.method().name();
+            event.action = conversion.action();
+
+            return event;
+        } else if (this.validations && context instanceof final @NotNull Validator.Context validation) {
+            final @NotNull ValidationEvent event = new ValidationEvent();
+
+            event.step = validation.step();
+
+            return event;
+        } else {
+            return null;
+        }
+    }
+
+    @Override
+    public void onEnter(final @NotNull Scoped<?>.Scope scope) {
+        if (!this.conversions && !this.validations) return;
+
+        final @NotNull List<@NotNull Frame> frames = this.frames.get();
+
+        if (!frames.isEmpty()) {
+            final @Nullable ScopeEvent parent = frames.getLast().event();
+
+            if (parent != null) parent.elements += 1;
+        }
+
+        final @Nullable ScopeEvent event = this.createEvent(scope);
+
+        if (event != null) event.begin();
+
+        frames.add(new Frame(scope, event));
+    }
+
+    @Override
+    public void onExit(final @NotNull Scoped<?>.Scope scope) {
+        if (!this.conversions && !this.validations) return;
+
+        final @NotNull List<@NotNull Frame> frames = this.frames.get();
+
+        int index = frames.size() - 1;
+
+        while (index >= 0 && frames.get(index).scope() != scope) index -= 1;
+
+        // Scopes entered before this recorder was installed have no frame, and are not recorded.
+        if (index < 0) return;
+
+        // Any frames above the exited scope were never exited, so their events are discarded rather than committed.
+        frames.subList(index + 1, frames.size()).clear();
+
+        final @Nullable ScopeEvent event = frames.removeLast().event();
+
+        if (event == null) return;
+
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.sourceType = scope.getSource().getClass();
+            event.sourceIdentity = System.identityHashCode(scope.getSource());
+
+            event.commit();
+        }
+    }
+
+    @Override
+    public void onFailure(final @NotNull Scoped<?>.Scope scope, final @NotNull ScopedException exception) {
+        final @NotNull List<@NotNull Frame> frames = this.frames.get();
+
+        // Failures may be created for scopes that were never entered, such as a budget being exceeded on entry.
+        if (!frames.isEmpty() && frames.getLast().scope() == scope) {
+            final @Nullable ScopeEvent event = frames.getLast().event();
+
+            if (event != null) event.failed = true;
+        }
+
+        if (!this.failures) return;
+
+        final @NotNull ScopeFailureEvent failure = new ScopeFailureEvent();
+
+        if (failure.shouldCommit()) {
+            final @Nullable Throwable cause = exception.getCause();
+
+            failure.sourceType = scope.getSource().getClass();
+            failure.context = scope.getContext().toString();
+            failure.path = exception.getPath();
+            failure.causeType = cause == null ? null : cause.getClass();
+
+            failure.commit();
+        }
+    }
+
+    /**
+     * An active scope, paired with its event.
+     *
+     * @param scope The scope.
+     * @param event The scope's event, or {@code null} if the scope is not recorded.
+     *
+     * @author Jaxydog
+     * @since 0.1.0
+     */
+    private record Frame(@NotNull Scoped<?>.Scope scope, @Nullable ScopeEvent event) { }
+
+}
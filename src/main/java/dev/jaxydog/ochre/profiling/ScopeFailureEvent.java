@@ -0,0 +1,78 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2025 Jaxydog
+ *
+ * This file is part of Ochre.
+ *
+ * Ochre is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Ochre is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Ochre. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.ochre.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A Flight Recorder event describing an exception thrown from a {@link dev.jaxydog.ochre.utility.Scoped.Scope}.
+ *
+ * @author Jaxydog
+ * @since 0.1.0
+ */
+@Name("dev.jaxydog.ochre.ScopeFailure")
+@Label("Scope Failure")
+@Category("Ochre")
+@Description("An exception thrown by a converter or validator")
+final class ScopeFailureEvent
+    extends Event
+{
+
+    /**
+     * The type of the scope's source.
+     *
+     * @since 0.1.0
+     */
+    @Label("Source Type")
+    @Description("The type of the converter or validator")
+    @Nullable Class<?> sourceType;
+    /**
+     * The scope's context.
+     *
+     * @since 0.1.0
+     */
+    @Label("Context")
+    @Description("The context of the failed step")
+    @Nullable String context;
+    /**
+     * The location of the value that failed.
+     *
+     * @since 0.1.0
+     */
+    @Label("Path")
+    @Description("The JSON pointer of the value that failed")
+    @Nullable String path;
+    /**
+     * The type of the exception that caused the failure.
+     *
+     * @since 0.1.0
+     */
+    @Label("Cause Type")
+    @Description("The type of the exception that caused the failure")
+    @Nullable Class<?> causeType;
+
+    /**
+     * Creates a new {@link ScopeFailureEvent}.
+     *
+     * @since 0.1.0
+     */
+    ScopeFailureEvent() { }
+
+}
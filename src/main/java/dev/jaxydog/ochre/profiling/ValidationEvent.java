@@ -0,0 +1,57 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2025 Jaxydog
+ *
+ * This file is part of Ochre.
+ *
+ * Ochre is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Ochre is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Ochre. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.ochre.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A Flight Recorder event describing a single step taken by a {@link dev.jaxydog.ochre.validator.Validator}.
+ *
+ * @author Jaxydog
+ * @since 0.1.0
+ */
+@Name("dev.jaxydog.ochre.Validation")
+@Label("Validation")
+@Category("Ochre")
+@Description("A step taken by a validator")
+@StackTrace(false)
+@Threshold("1 ms")
+final class ValidationEvent
+    extends ScopeEvent
+{
+
+    /**
+     * The validation step being performed.
+     *
+     * @since 0.1.0
+     */
+    @Label("Step")
+    @Description("The validation step being performed")
+    @Nullable String step;
+
+    /**
+     * Creates a new {@link ValidationEvent}.
+     *
+     * @since 0.1.0
+     */
+    ValidationEvent() { }
+
+}
@@ -0,0 +1,130 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2025 Jaxydog
+ *
+ * This file is part of Ochre.
+ *
+ * Ochre is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Ochre is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Ochre. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.ochre.utility;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.UnknownNullability;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Limits the work performed by scopes, allowing conversions and validations of untrusted input to be aborted early.
+ * <p>
+ * Budgets are enforced cooperatively at scope boundaries on the thread that calls {@link #run(Supplier)}. Scopes check
+ * their depth whenever they are entered; collections check their element counts before they are processed. The timeout
+ * is checked every few scopes or elements, so that it also applies to collections that convert their elements without
+ * entering a scope for each one. Threads without a budget only pay a single field check per scope.
+ *
+ * @param timeout The maximum amount of time that may be spent.
+ * @param maxElements The maximum total number of collection elements that may be processed.
+ * @param maxDepth The maximum number of scopes that may be nested.
+ *
+ * @author Jaxydog
+ * @since 0.1.0
+ */
+public record Budget(@NotNull Duration timeout, long maxElements, int maxDepth) {
+
+    /**
+     * The longest timeout that can be enforced.
+     *
+     * @since 0.1.0
+     */
+    static final Duration MAX_TIMEOUT = Duration.ofNanos(Long.MAX_VALUE);
+    /**
+     * A budget without any limits.
+     *
+     * @since 0.1.0
+     */
+    public static final Budget UNLIMITED = new Budget(Budget.MAX_TIMEOUT, Long.MAX_VALUE, Integer.MAX_VALUE);
+
+    /**
+     * Creates a new {@link Budget}.
+     *
+     * @param timeout The maximum amount of time that may be spent.
+     * @param maxElements The maximum total number of collection elements that may be processed.
+     * @param maxDepth The maximum number of scopes that may be nested.
+     *
+     * @throws IllegalArgumentException If any limit is negative.
+     * @since 0.1.0
+     */
+    public Budget {
+        Objects.requireNonNull(timeout);
+
+        if (timeout.isNegative()) throw new IllegalArgumentException("The timeout must not be negative.");
+        if (maxElements < 0) throw new IllegalArgumentException("The element limit must not be negative.");
+        if (maxDepth < 0) throw new IllegalArgumentException("The depth limit must not be negative.");
+    }
+
+    /**
+     * Returns a copy of this budget with the given timeout.
+     *
+     * @param timeout The maximum amount of time that may be spent.
+     *
+     * @return A new budget.
+     *
+     * @since 0.1.0
+     */
+    public @NotNull Budget withTimeout(final @NotNull Duration timeout) {
+        return new Budget(timeout, this.maxElements(), this.maxDepth());
+    }
+
+    /**
+     * Returns a copy of this budget with the given element limit.
+     *
+     * @param maxElements The maximum total number of collection elements that may be processed.
+     *
+     * @return A new budget.
+     *
+     * @since 0.1.0
+     */
+    public @NotNull Budget withMaxElements(final long maxElements) {
+        return new Budget(this.timeout(), maxElements, this.maxDepth());
+    }
+
+    /**
+     * Returns a copy of this budget with the given depth limit.
+     *
+     * @param maxDepth The maximum number of scopes that may be nested.
+     *
+     * @return A new budget.
+     *
+     * @since 0.1.0
+     */
+    public @NotNull Budget withMaxDepth(final int maxDepth) {
+        return new Budget(this.timeout(), this.maxElements(), maxDepth);
+    }
+
+    /**
+     * Runs the given function while enforcing this budget on the current thread.
+     * <p>
+     * Budgets may be nested, in which case the scopes run by the inner function must satisfy both budgets.
+     *
+     * @param supplier The function to run.
+     * @param <T> The function's return type.
+     *
+     * @return The function's return value.
+     *
+     * @throws BudgetExceededException If this budget is exceeded.
+     * @since 0.1.0
+     */
+    public <T> @UnknownNullability T run(final @NotNull Supplier<T> supplier)
+        throws @NotNull BudgetExceededException
+    {
+        return Scoped.runWithBudget(this, supplier);
+    }
+
+}
@@ -0,0 +1,59 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2025 Jaxydog
+ *
+ * This file is part of Ochre.
+ *
+ * Ochre is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Ochre is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Ochre. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.ochre.utility;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Serial;
+
+/**
+ * An exception that is thrown when a scope exceeds the {@link Budget} being enforced on its thread.
+ *
+ * @author Jaxydog
+ * @since 0.1.0
+ */
+public final class BudgetExceededException
+    extends ScopedException
+{
+
+    /**
+     * The serial version of this exception.
+     *
+     * @since 0.1.0
+     */
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates a new {@link BudgetExceededException}.
+     *
+     * @param source The source {@link Scoped} instance.
+     * @param context The {@link Scoped.Scope}'s context.
+     * @param message The exception's message.
+     * @param omitStackTrace Whether to skip capturing this exception's stack trace.
+     *
+     * @since 0.1.0
+     */
+    BudgetExceededException(
+        final @NotNull Scoped<?> source,
+        final @NotNull Object context,
+        final @NotNull String message,
+        final boolean omitStackTrace
+    )
+    {
+        super(source, context, message, omitStackTrace);
+    }
+
+}
@@ -0,0 +1,131 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2025 Jaxydog
+ *
+ * This file is part of Ochre.
+ *
+ * Ochre is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Ochre is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Ochre. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.ochre.utility;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The outcome of an operation that continued past its failures, holding every failure alongside the value that could
+ * still be produced.
+ * <p>
+ * Reports allow a single pass over a large input to surface every problem within it, rather than only the first. Each
+ * failure is a {@link ScopedException} whose path locates the value that failed. The exceptions held by reports are
+ * not thrown unless requested through {@link #orThrow()}.
+ *
+ * @param value The produced value, which omits any parts that failed, or {@code null} if no value could be produced.
+ * @param errors The exceptions describing each failure, in the order that they occurred.
+ * @param <T> The type of the produced value.
+ *
+ * @author Jaxydog
+ * @since 0.1.0
+ */
+public record Report<T>(@Nullable T value, @NotNull List<@NotNull ScopedException> errors)
+{
+
+    /**
+     * Creates a new {@link Report}.
+     *
+     * @param value The produced value, or {@code null} if no value could be produced.
+     * @param errors The exceptions describing each failure.
+     *
+     * @since 0.1.0
+     */
+    public Report {
+        errors = List.copyOf(errors);
+    }
+
+    /**
+     * Returns a report holding the given result's value, or its exception if it is a failure.
+     *
+     * @param result The result.
+     * @param <T> The type of the produced value.
+     *
+     * @return A new report.
+     *
+     * @since 0.1.0
+     */
+    public static <T> @NotNull Report<T> of(final @NotNull Result<T> result) {
+        return switch (result) {
+            case final Result.Success<T> success -> new Report<>(success.value(), List.of());
+            case final Result.Failure<T> failure -> new Report<>(null, List.of(failure.error()));
+        };
+    }
+
+    /**
+     * Returns {@code true} if the operation did not fail, in which case this report's value is complete.
+     *
+     * @return Whether this report holds no failures.
+     *
+     * @since 0.1.0
+     */
+    public boolean isComplete() {
+        return this.errors.isEmpty();
+    }
+
+    /**
+     * Returns this report's value, throwing its first exception if any failures occurred.
+     * <p>
+     * Every later exception is added to the thrown exception as a suppressed exception, so that all of them are
+     * included when it is logged. This is only done on the first call.
+     *
+     * @return The value.
+     *
+     * @throws ScopedException If any failures occurred.
+     * @since 0.1.0
+     */
+    public @Nullable T orThrow()
+        throws @NotNull ScopedException
+    {
+        if (this.errors.isEmpty()) return this.value;
+
+        final @NotNull ScopedException first = this.errors.getFirst();
+
+        if (first.getSuppressed().length == 0) {
+            for (int index = 1; index < this.errors.size(); index += 1) {
+                first.addSuppressed(this.errors.get(index));
+            }
+        }
+
+        throw first;
+    }
+
+    /**
+     * Returns a summary of every failure, with one line for each that gives its path and message.
+     *
+     * @return The summary, or an empty string if no failures occurred.
+     *
+     * @since 0.1.0
+     */
+    public @NotNull String describe() {
+        final @NotNull StringBuilder builder = new StringBuilder();
+
+        for (final @NotNull ScopedException error : this.errors) {
+            if (!builder.isEmpty()) builder.append('\n');
+
+            final @NotNull String path = error.getPath();
+            final @Nullable Throwable cause = error.getCause();
+            final @Nullable String message = Objects.isNull(cause) ? error.getMessage() : cause.getMessage();
+
+            builder.append(path.isEmpty() ? "/" : path).append(": ").append(message);
+        }
+
+        return builder.toString();
+    }
+
+}
@@ -0,0 +1,204 @@
+/*
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * Copyright © 2025 Jaxydog
+ *
+ * This file is part of Ochre.
+ *
+ * Ochre is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Ochre is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with Ochre. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.ochre.utility;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.UnknownNullability;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * The outcome of an operation that either produced a value or failed with a {@link ScopedException}.
+ * <p>
+ * Results allow callers that expect failures, such as those probing untrusted input, to handle them without catching
+ * exceptions. The exceptions held by failures are not thrown, and omit their stack traces.
+ *
+ * @param <T> The type of the produced value.
+ *
+ * @author Jaxydog
+ * @since 0.1.0
+ */
+public sealed interface Result<T>
+    permits Result.Success, Result.Failure
+{
+
+    /**
+     * Returns a successful result holding the given value.
+     *
+     * @param value The value.
+     * @param <T> The type of the value.
+     *
+     * @return A new result.
+     *
+     * @since 0.1.0
+     */
+    static <T> @NotNull Result<T> success(final @UnknownNullability T value) {
+        return new Success<>(value);
+    }
+
+    /**
+     * Returns a failed result holding the given exception.
+     *
+     * @param error The exception describing the failure.
+     * @param <T> The type of the value that would have been produced.
+     *
+     * @return A new result.
+     *
+     * @since 0.1.0
+     */
+    static <T> @NotNull Result<T> failure(final @NotNull ScopedException error) {
+        return new Failure<>(error);
+    }
+
+    /**
+     * Returns {@code true} if this result holds a value.
+     *
+     * @return Whether this result is successful.
+     *
+     * @since 0.1.0
+     */
+    boolean isSuccess();
+
+    /**
+     * Returns {@code true} if this result holds an exception.
+     *
+     * @return Whether this result is a failure.
+     *
+     * @since 0.1.0
+     */
+    default boolean isFailure() {
+        return !this.isSuccess();
+    }
+
+    /**
+     * Returns this result's value, throwing its exception if it is a failure.
+     *
+     * @return The value.
+     *
+     * @throws ScopedException If this result is a failure.
+     * @since 0.1.0
+     */
+    @UnknownNullability T orThrow()
+        throws @NotNull ScopedException;
+
+    /**
+     * Returns this result's value, or the given value if it is a failure.
+     *
+     * @param other The value returned on failure.
+     *
+     * @return The value.
+     *
+     * @since 0.1.0
+     */
+    @UnknownNullability T orElse(final @UnknownNullability T other);
+
+    /**
+     * Returns a result holding the given function's return value if this result is successful, or this result's
+     * exception otherwise.
+     *
+     * @param function The function applied to this result's value.
+     * @param <V> The function's return type.
+     *
+     * @return A result.
+     *
+     * @since 0.1.0
+     */
+    <V> @NotNull Result<V> map(final @NotNull Function<? super T, ? extends V> function);
+
+    /**
+     * A successful {@link Result}.
+     *
+     * @param value The produced value.
+     * @param <T> The type of the produced value.
+     *
+     * @author Jaxydog
+     * @since 0.1.0
+     */
+    record Success<T>(@UnknownNullability T value)
+        implements Result<T>
+    {
+
+        @Override
+        public boolean isSuccess() {
+            return true;
+        }
+
+        @Override
+        public @UnknownNullability T orThrow() {
+            return this.value;
+        }
+
+        @Override
+        public @UnknownNullability T orElse(final @UnknownNullability T other) {
+            return this.value;
+        }
+
+        @Override
+        public <V> @NotNull Result<V> map(final @NotNull Function<? super T, ? extends V> function) {
+            return new Success<>(function.apply(this.value));
+        }
+
+    }
+
+    /**
+     * A failed {@link Result}.
+     *
+     * @param error The exception describing the failure.
+     * @param <T> The type of the value that would have been produced.
+     *
+     * @author Jaxydog
+     * @since 0.1.0
+     */
+    record Failure<T>(@NotNull ScopedException error)
+        implements Result<T>
+    {
+
+        /**
+         * Creates a new {@link Failure}.
+         *
+         * @param error The exception describing the failure.
+         *
+         * @since 0.1.0
+         */
+        public Failure {
+            Objects.requireNonNull(error);
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return false;
+        }
+
+        @Override
+        public @UnknownNullability T orThrow()
+            throws @NotNull ScopedException
+        {
+            throw this.error;
+        }
+
+        @Override
+        public @UnknownNullability T orElse(final @UnknownNullability T other) {
+            return other;
+        }
+
+        @Override
+        public <V> @NotNull Result<V> map(final @NotNull Function<? super T, ? extends V> function) {
+            return new Failure<>(this.error);
+        }
+
+    }
+
+}
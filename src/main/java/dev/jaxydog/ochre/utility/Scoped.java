@@ -19,11 +19,15 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.UnknownNullability;
 
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * Implements scoped execution with context-aware exception wrappers.
+ * <p>
+ * Active scopes are tracked per thread, so a single instance may be used by any number of threads at once.
  *
  * @param <C> The context type.
  *
@@ -34,28 +38,133 @@ import java.util.Optional;
 public abstract class Scoped<C> {
 
     /**
-     * The currently active scope.
+     * The scopes that are currently active on each thread.
      *
      * @since 0.1.0
      */
-    private volatile @Nullable Scope currentScope;
+    private static final ThreadLocal<Frames> FRAMES = ThreadLocal.withInitial(Frames::new);
+
+    /**
+     * Whether exceptions omit their stack traces regardless of where they are thrown.
+     *
+     * @since 0.1.0
+     */
+    private static volatile boolean omitStackTracesGlobally;
+    /**
+     * The currently installed listeners.
+     *
+     * @since 0.1.0
+     */
+    private static volatile @NotNull Listener @NotNull [] listeners = new Listener[0];
+
+    /**
+     * Whether exceptions thrown within this instance's scopes omit their stack traces.
+     *
+     * @since 0.1.0
+     */
+    private final boolean omitStackTraces;
+
+    /**
+     * Creates a new {@link Scoped}.
+     *
+     * @since 0.1.0
+     */
+    protected Scoped() {
+        this(false);
+    }
 
     /**
      * Creates a new {@link Scoped}.
      *
+     * @param omitStackTraces Whether exceptions thrown within this instance's scopes, including any scopes nested
+     * within them, omit their stack traces.
+     *
+     * @since 0.1.0
+     */
+    protected Scoped(final boolean omitStackTraces) {
+        this.omitStackTraces = omitStackTraces;
+    }
+
+    /**
+     * Sets whether all exceptions thrown within scopes omit their stack traces.
+     * <p>
+     * Filling in a stack trace is typically the most expensive part of throwing an exception. Omitting it is worthwhile
+     * when failures are expected and handled, such as when validating untrusted input. Stackless exceptions share the
+     * JVM's empty stack trace rather than capturing their own.
+     *
+     * @param omitStackTraces Whether stack traces are omitted.
+     *
+     * @since 0.1.0
+     */
+    public static void setOmitStackTracesGlobally(final boolean omitStackTraces) {
+        Scoped.omitStackTracesGlobally = omitStackTraces;
+    }
+
+    /**
+     * Installs the given {@link Listener}, notifying it of scope events on all threads.
+     * <p>
+     * When no listeners are installed, scopes do not pay for notifying them.
+     *
+     * @param listener The listener.
+     *
+     * @since 0.1.0
+     */
+    public static synchronized void addListener(final @NotNull Listener listener) {
+        final @NotNull Listener @NotNull [] current = Scoped.listeners;
+        final @NotNull Listener @NotNull [] updated = Arrays.copyOf(current, current.length + 1);
+
+        updated[current.length] = listener;
+
+        Scoped.listeners = updated;
+    }
+
+    /**
+     * Removes the given {@link Listener} if it is installed.
+     *
+     * @param listener The listener.
+     *
+     * @since 0.1.0
+     */
+    public static synchronized void removeListener(final @NotNull Listener listener) {
+        final @NotNull Listener @NotNull [] current = Scoped.listeners;
+
+        for (int index = 0; index < current.length; index += 1) {
+            if (current[index] != listener) continue;
+
+            final @NotNull Listener @NotNull [] updated = new Listener[current.length - 1];
+
+            System.arraycopy(current, 0, updated, 0, index);
+            System.arraycopy(current, index + 1, updated, index, updated.length - index);
+
+            Scoped.listeners = updated;
+
+            return;
+        }
+    }
+
+    /**
+     * Returns {@code true} if exceptions thrown by this instance on the current thread should omit their stack traces.
+     * <p>
+     * This is the case if stack traces are omitted globally, by this instance, or by the source of any scope that is
+     * currently active on this thread.
+     *
+     * @return Whether stack traces are omitted.
+     *
      * @since 0.1.0
      */
-    protected Scoped() { }
+    protected final boolean shouldOmitStackTraces() {
+        return this.omitStackTraces || Scoped.omitStackTracesGlobally || Scoped.FRAMES.get().stackless > 0;
+    }
 
     /**
-     * Returns the current {@link Scope}, if one is active.
+     * Returns the innermost {@link Scope} of this instance that is active on the current thread, if one exists.
      *
      * @return The current scope.
      *
      * @since 0.1.0
      */
     public final @NotNull Optional<Scope> getScope() {
-        return Optional.ofNullable(this.currentScope);
+        return Optional.ofNullable(Scoped.FRAMES.get().find(this));
     }
 
     /**
@@ -71,6 +180,8 @@ public abstract class Scoped<C> {
 
     /**
      * Creates a new {@link Scope}.
+     * <p>
+     * Scopes hold no per-thread state, so the returned scope may be stored and reused.
      *
      * @param context The scope's context.
      *
@@ -88,7 +199,6 @@ public abstract class Scoped<C> {
      * @param context The scope's context.
      * @param runnable The function to run.
      *
-     * @throws IllegalStateException If another scope is currently active.
      * @throws ScopedException If the given function throws.
      * @since 0.1.0
      */
@@ -96,7 +206,7 @@ public abstract class Scoped<C> {
         final @NotNull C context,
         final @NotNull FallibleRunnable<? extends Exception> runnable
     )
-        throws @NotNull IllegalStateException, @NotNull ScopedException
+        throws @NotNull ScopedException
     {
         this.runScoped(this.createScope(context), runnable);
     }
@@ -110,7 +220,6 @@ public abstract class Scoped<C> {
      *
      * @return The function's return value.
      *
-     * @throws IllegalStateException If another scope is currently active.
      * @throws ScopedException If the given function throws.
      * @since 0.1.0
      */
@@ -118,7 +227,7 @@ public abstract class Scoped<C> {
         final @NotNull C context,
         final @NotNull FallibleSupplier<T, ? extends Exception> supplier
     )
-        throws @NotNull IllegalStateException, @NotNull ScopedException
+        throws @NotNull ScopedException
     {
         return this.runScoped(this.createScope(context), supplier);
     }
@@ -129,7 +238,6 @@ public abstract class Scoped<C> {
      * @param scope The scope.
      * @param runnable The function to run.
      *
-     * @throws IllegalStateException If another scope is currently active.
      * @throws ScopedException If the given function throws.
      * @since 0.1.0
      */
@@ -137,11 +245,27 @@ public abstract class Scoped<C> {
         final @NotNull Scope scope,
         final @NotNull FallibleRunnable<? extends Exception> runnable
     )
-        throws @NotNull IllegalStateException, @NotNull ScopedException
+        throws @NotNull ScopedException
     {
-        scope.enter();
-        scope.run(runnable);
-        scope.exit();
+        final @NotNull Frames frames = Scoped.FRAMES.get();
+
+        if (frames.optimistic) {
+            try {
+                runnable.run();
+
+                return;
+            } catch (final @NotNull Exception exception) {
+                throw Scoped.propagate(exception);
+            }
+        }
+
+        frames.push(scope);
+
+        try {
+            scope.invoke(runnable);
+        } finally {
+            frames.pop(scope);
+        }
     }
 
     /**
@@ -153,7 +277,6 @@ public abstract class Scoped<C> {
      *
      * @return The function's return value.
      *
-     * @throws IllegalStateException If another scope is currently active.
      * @throws ScopedException If the given function throws.
      * @since 0.1.0
      */
@@ -161,203 +284,1340 @@ public abstract class Scoped<C> {
         final @NotNull Scope scope,
         final @NotNull FallibleSupplier<T, ? extends Exception> supplier
     )
-        throws @NotNull IllegalStateException, @NotNull ScopedException
+        throws @NotNull ScopedException
     {
-        final @UnknownNullability T value;
+        final @NotNull Frames frames = Scoped.FRAMES.get();
+
+        if (frames.optimistic) {
+            try {
+                return supplier.get();
+            } catch (final @NotNull Exception exception) {
+                throw Scoped.propagate(exception);
+            }
+        }
 
-        scope.enter();
-        value = scope.run(supplier);
-        scope.exit();
+        frames.push(scope);
 
-        return value;
+        try {
+            return scope.invoke(supplier);
+        } finally {
+            frames.pop(scope);
+        }
     }
 
     /**
-     * A temporary scope.
+     * Runs the given function within a scope.
+     * <p>
+     * Unlike the supplier overload, the function's argument is passed through rather than captured, allowing callers
+     * to reuse a single function instance across calls.
      *
+     * @param scope The scope.
+     * @param function The function to run.
+     * @param argument The function's argument.
+     * @param <A> The function's argument type.
+     * @param <T> The function's return type.
+     *
+     * @return The function's return value.
+     *
+     * @throws ScopedException If the given function throws.
      * @since 0.1.0
      */
-    @Internal
-    public final class Scope {
-
-        /**
-         * The scope's context.
-         *
-         * @since 0.1.0
-         */
-        private final @NotNull C context;
-
-        /**
-         * Creates a new {@link Scope} with the given context.
-         *
-         * @param context The scope's context.
-         *
-         * @since 0.1.0
-         */
-        private Scope(final @NotNull C context) {
-            this.context = context;
-        }
-
-        /**
-         * Throws an exception if this {@link Scope} is not currently active.
-         *
-         * @throws IllegalStateException If this scope is not active.
-         * @since 0.1.0
-         */
-        public void requireActive()
-            throws @NotNull IllegalStateException
-        {
-            if (Objects.isNull(Scoped.this.currentScope)) {
-                throw new IllegalStateException("A scope is not active.");
-            } else if (Objects.equals(Scoped.this.currentScope, this)) {
-                throw new IllegalStateException("This scope is not active.");
-            }
-        }
+    protected final <A, T> @UnknownNullability T runScoped(
+        final @NotNull Scope scope,
+        final @NotNull FallibleFunction<A, T, ? extends Exception> function,
+        final @UnknownNullability A argument
+    )
+        throws @NotNull ScopedException
+    {
+        final @NotNull Frames frames = Scoped.FRAMES.get();
 
-        /**
-         * Throws an exception if this {@link Scope} is currently active.
-         *
-         * @throws IllegalStateException If this scope is active.
-         * @since 0.1.0
-         */
-        public void requireInactive()
-            throws @NotNull IllegalStateException
-        {
-            if (Objects.equals(Scoped.this.currentScope, this)) {
-                throw new IllegalStateException("This scope is active.");
+        if (frames.optimistic) {
+            try {
+                return function.apply(argument);
+            } catch (final @NotNull Exception exception) {
+                throw Scoped.propagate(exception);
             }
         }
 
-        /**
-         * Returns {@code true} if this {@link Scope} is currently active.
-         *
-         * @return Whether this scope is active.
-         *
-         * @since 0.1.0
-         */
-        public boolean isActive() {
-            return Objects.equals(Scoped.this.currentScope, this);
-        }
+        frames.push(scope);
 
-        /**
-         * Returns {@code true} if this {@link Scope} is not currently active.
-         *
-         * @return Whether this scope is inactive.
-         *
-         * @since 0.1.0
-         */
-        public boolean isInactive() {
-            return Objects.isNull(Scoped.this.currentScope) || !Objects.equals(Scoped.this.currentScope, this);
+        try {
+            return scope.invoke(function, argument);
+        } finally {
+            frames.pop(scope);
         }
+    }
 
-        /**
-         * Returns this scope's source instance.
-         *
-         * @return This scope's source.
-         *
-         * @since 0.1.0
-         */
-        public @NotNull Scoped<C> getSource() {
-            return Scoped.this;
-        }
+    /**
+     * Runs the given function within a scope.
+     * <p>
+     * The function's arguments are passed through rather than captured, allowing callers to reuse a single function
+     * instance across calls.
+     *
+     * @param scope The scope.
+     * @param consumer The function to run.
+     * @param first The function's first argument.
+     * @param second The function's second argument.
+     * @param <A> The function's first argument type.
+     * @param <B> The function's second argument type.
+     *
+     * @throws ScopedException If the given function throws.
+     * @since 0.1.0
+     */
+    protected final <A, B> void runScoped(
+        final @NotNull Scope scope,
+        final @NotNull FallibleBiConsumer<A, B, ? extends Exception> consumer,
+        final @UnknownNullability A first,
+        final @UnknownNullability B second
+    )
+        throws @NotNull ScopedException
+    {
+        final @NotNull Frames frames = Scoped.FRAMES.get();
 
-        /**
-         * Returns this scope's configured context.
-         *
-         * @return This scope's context.
-         *
-         * @since 0.1.0
-         */
-        public @NotNull C getContext() {
-            return this.context;
-        }
+        if (frames.optimistic) {
+            try {
+                consumer.accept(first, second);
 
-        /**
-         * Wraps the given exception in a {@link ScopedException}.
-         *
-         * @param exception The exception to wrap.
-         * @param <E> The exception's type.
-         *
-         * @return A new {@link ScopedException}, or the given exception if it is a {@link ScopedException} that matches
-         * this scope.
-         *
-         * @since 0.1.0
-         */
-        private <E extends Exception> @NotNull ScopedException wrapException(final @UnknownNullability E exception) {
-            if (exception instanceof final @NotNull ScopedException scoped && scoped.matchesScope(this)) {
-                return scoped;
-            } else {
-                return new ScopedException(this.getSource(), this.getContext(), exception);
+                return;
+            } catch (final @NotNull Exception exception) {
+                throw Scoped.propagate(exception);
             }
         }
 
-        /**
-         * Runs the given function.
-         *
-         * @param runnable The function to run.
-         *
-         * @throws IllegalStateException If this scope is not currently active.
-         * @throws ScopedException If the given function throws.
-         * @since 0.1.0
-         */
-        public void run(final @NotNull FallibleRunnable<? extends Exception> runnable)
-            throws @NotNull IllegalStateException, @NotNull ScopedException
-        {
-            this.requireActive();
+        frames.push(scope);
 
-            Fallible.wrapThrown(runnable, this::wrapException);
+        try {
+            scope.invoke(consumer, first, second);
+        } finally {
+            frames.pop(scope);
         }
+    }
 
-        /**
-         * Runs the given function.
-         *
-         * @param supplier The function to run.
-         * @param <T> The function's return type.
-         *
-         * @return The function's return value.
-         *
-         * @throws IllegalStateException If this scope is not currently active.
-         * @throws ScopedException If the given function throws.
-         * @since 0.1.0
-         */
-        public <T> @UnknownNullability T run(final @NotNull FallibleSupplier<T, ? extends Exception> supplier)
-            throws @NotNull IllegalStateException, @NotNull ScopedException
-        {
-            this.requireActive();
+    /**
+     * Consumes the given number of elements from the current thread's {@link Budget}, if one is being enforced.
+     * <p>
+     * Collection conversions should call this before processing their elements, allowing oversized inputs to be
+     * rejected before any work is done.
+     *
+     * @param scope The scope that is processing the elements.
+     * @param elements The number of elements.
+     *
+     * @throws BudgetExceededException If the budget's element limit or timeout is exceeded.
+     * @since 0.1.0
+     */
+    protected final void consumeBudget(final @NotNull Scope scope, final int elements)
+        throws @NotNull BudgetExceededException
+    {
+        final @NotNull Frames frames = Scoped.FRAMES.get();
 
-            return Fallible.wrapThrown(supplier, this::wrapException);
-        }
+        if (Objects.nonNull(frames.allowance)) frames.consume(scope, elements);
+    }
 
-        /**
-         * Enters the current scope.
-         *
-         * @throws IllegalStateException If this or another scope is already active.
-         * @since 0.1.0
-         */
-        public synchronized void enter()
-            throws @NotNull IllegalStateException
-        {
-            this.requireInactive();
+    /**
+     * Returns whether a {@link Budget} is being enforced on the current thread.
+     * <p>
+     * Budgets are tracked per thread, so work that would otherwise be split across threads should be run on the
+     * current thread while this returns {@code true}.
+     *
+     * @return Whether a budget is being enforced.
+     *
+     * @since 0.1.0
+     */
+    protected final boolean isEnforcingBudget() {
+        return Objects.nonNull(Scoped.FRAMES.get().allowance);
+    }
 
-            if (Objects.isNull(Scoped.this.currentScope)) {
-                Scoped.this.currentScope = this;
-            } else {
-                throw new IllegalStateException("A scope is already active.");
-            }
+    /**
+     * Returns whether the current thread has any state that work run on other threads would not observe.
+     * <p>
+     * This is the case while a {@link Budget} is being enforced, while stack traces are omitted, and during an
+     * optimistic run or its replay, as each thread tracks these separately. Work that would otherwise be split across
+     * threads should be run on the current thread while this returns {@code true}.
+     * <p>
+     * Installed listeners do not count, as they are notified on whichever thread enters or exits a scope, and scopes
+     * run on other threads are reported as starting a new stack on that thread.
+     *
+     * @return Whether the current thread has any such state.
+     *
+     * @since 0.1.0
+     */
+    protected final boolean hasThreadState() {
+        final @NotNull Frames frames = Scoped.FRAMES.get();
+
+        return Objects.nonNull(frames.allowance)
+            || frames.stackless > 0
+            || frames.optimistic
+            || frames.replaying;
+    }
+
+    /**
+     * Runs the given function while enforcing the given {@link Budget} on the current thread.
+     *
+     * @param budget The budget.
+     * @param supplier The function to run.
+     * @param <T> The function's return type.
+     *
+     * @return The function's return value.
+     *
+     * @throws BudgetExceededException If the budget is exceeded.
+     * @since 0.1.0
+     */
+    static <T> @UnknownNullability T runWithBudget(
+        final @NotNull Budget budget,
+        final @NotNull Supplier<T> supplier
+    )
+        throws @NotNull BudgetExceededException
+    {
+        final @NotNull Frames frames = Scoped.FRAMES.get();
+        final @Nullable Allowance previous = frames.allowance;
+
+        frames.allowance = new Allowance(budget, frames.depth, previous);
+
+        try {
+            return supplier.get();
+        } finally {
+            frames.allowance = previous;
         }
+    }
 
-        /**
-         * Exits the current scope.
-         *
-         * @throws IllegalStateException If this is not the currently active scope.
-         * @since 0.1.0
+    /**
+     * Runs the given function optimistically, only entering the given scope if the function fails.
+     * <p>
+     * The function is first run with all scope bookkeeping disabled on the current thread, including for any scopes
+     * that it enters itself. If it throws, it is run again within the given scope to produce a fully-detailed
+     * {@link ScopedException}. Because a failed function is run twice, it should be free of side effects.
+     * <p>
+     * If this is called while another optimistic run is in progress, the function is run directly. If this is called
+     * while a failed optimistic run is being replayed, or while a {@link Budget} is being enforced, the function is run
+     * within the given scope.
+     *
+     * @param scope The scope.
+     * @param function The function to run.
+     * @param argument The function's argument.
+     * @param <A> The function's argument type.
+     * @param <T> The function's return type.
+     *
+     * @return The function's return value.
+     *
+     * @throws ScopedException If the given function throws.
+     * @since 0.1.0
+     */
+    protected final <A, T> @UnknownNullability T runOptimistic(
+        final @NotNull Scope scope,
+        final @NotNull FallibleFunction<A, T, ? extends Exception> function,
+        final @UnknownNullability A argument
+    )
+        throws @NotNull ScopedException
+    {
+        final @NotNull Frames frames = Scoped.FRAMES.get();
+
+        if (frames.optimistic || frames.replaying || Objects.nonNull(frames.allowance)) {
+            return this.runScoped(scope, function, argument);
+        }
+
+        frames.optimistic = true;
+
+        try {
+            return function.apply(argument);
+        } catch (final @NotNull Exception exception) {
+            // The failure is reproduced below within the scope, which provides the exception's context.
+        } finally {
+            frames.optimistic = false;
+        }
+
+        frames.replaying = true;
+
+        try {
+            return this.runScoped(scope, function, argument);
+        } finally {
+            frames.replaying = false;
+        }
+    }
+
+    /**
+     * Returns the exception that would be thrown if a function run within the given scope threw the given exception.
+     * <p>
+     * This allows conversions that cannot contain any nested scopes, such as those of primitive values, to skip
+     * entering their scope when they succeed. The scope is only entered while the returned exception is created, so
+     * listeners and any {@link Budget} being enforced observe the failure as they would for {@link #runScoped}.
+     *
+     * @param scope The scope.
+     * @param exception The exception that was thrown.
+     *
+     * @return A {@link ScopedException} to be thrown by the caller.
+     *
+     * @throws ScopedException If the scope cannot be entered.
+     * @since 0.1.0
+     */
+    protected final @NotNull ScopedException scopedFailure(
+        final @NotNull Scope scope,
+        final @NotNull Exception exception
+    )
+        throws @NotNull ScopedException
+    {
+        final @NotNull Frames frames = Scoped.FRAMES.get();
+
+        if (frames.optimistic) throw Scoped.propagate(exception);
+
+        frames.push(scope);
+
+        try {
+            return scope.wrapException(exception);
+        } finally {
+            frames.pop(scope);
+        }
+    }
+
+    /**
+     * Returns the exception that would be thrown if a function run within the given scope threw the given exception,
+     * recording the given index within the exception's path.
+     *
+     * @param scope The scope.
+     * @param exception The exception that was thrown.
+     * @param index The index of the failed value within its parent.
+     *
+     * @return A {@link ScopedException} to be thrown by the caller.
+     *
+     * @throws ScopedException If the scope cannot be entered.
+     * @see #scopedFailure(Scope, Exception)
+     * @see ScopedException#getPath()
+     * @since 0.1.0
+     */
+    protected final @NotNull ScopedException scopedFailure(
+        final @NotNull Scope scope,
+        final @NotNull Exception exception,
+        final int index
+    )
+        throws @NotNull ScopedException
+    {
+        final @NotNull ScopedException failure = this.scopedFailure(scope, exception);
+
+        failure.addPathSegment(Integer.toString(index));
+
+        return failure;
+    }
+
+    /**
+     * Returns the exception that would be thrown if a function run within the given scope threw the given exception,
+     * recording the given key within the exception's path.
+     *
+     * @param scope The scope.
+     * @param exception The exception that was thrown.
+     * @param key The key of the failed value within its parent.
+     *
+     * @return A {@link ScopedException} to be thrown by the caller.
+     *
+     * @throws ScopedException If the scope cannot be entered.
+     * @see #scopedFailure(Scope, Exception)
+     * @see ScopedException#getPath()
+     * @since 0.1.0
+     */
+    protected final @NotNull ScopedException scopedFailure(
+        final @NotNull Scope scope,
+        final @NotNull Exception exception,
+        final @NotNull String key
+    )
+        throws @NotNull ScopedException
+    {
+        final @NotNull ScopedException failure = this.scopedFailure(scope, exception);
+
+        failure.addPathSegment(key);
+
+        return failure;
+    }
+
+    /**
+     * Runs the given function, returning its failure as a {@link Result} rather than throwing it.
+     * <p>
+     * Exceptions created while the function runs omit their stack traces, as they are not thrown to the caller. This
+     * is the fallback used by conversions that cannot report their failures without throwing internally. During an
+     * optimistic run, failures are thrown so that the run can be replayed.
+     *
+     * @param function The function to run.
+     * @param argument The function's argument.
+     * @param <A> The function's argument type.
+     * @param <T> The function's return type.
+     *
+     * @return The function's result.
+     *
+     * @since 0.1.0
+     */
+    protected final <A, T> @NotNull Result<T> attempt(
+        final @NotNull FallibleFunction<A, T, ? extends ScopedException> function,
+        final @UnknownNullability A argument
+    )
+    {
+        final @NotNull Frames frames = Scoped.FRAMES.get();
+
+        if (frames.optimistic) return Result.success(function.apply(argument));
+
+        frames.stackless += 1;
+
+        try {
+            return Result.success(function.apply(argument));
+        } catch (final @NotNull ScopedException exception) {
+            return Result.failure(exception);
+        } finally {
+            frames.stackless -= 1;
+        }
+    }
+
+    /**
+     * Returns a failed {@link Result} holding the exception that would be thrown if a function run within the given
+     * scope threw the given exception.
+     * <p>
+     * The returned exception omits its stack trace. During an optimistic run, the given exception is thrown so that
+     * the run can be replayed.
+     *
+     * @param scope The scope.
+     * @param exception The exception describing the failure.
+     * @param <T> The type of the value that would have been produced.
+     *
+     * @return A failed result.
+     *
+     * @throws ScopedException If the scope cannot be entered.
+     * @see #scopedFailure(Scope, Exception)
+     * @since 0.1.0
+     */
+    protected final <T> @NotNull Result<T> failedResult(final @NotNull Scope scope, final @NotNull Exception exception)
+        throws @NotNull ScopedException
+    {
+        final @NotNull Frames frames = Scoped.FRAMES.get();
+
+        frames.stackless += 1;
+
+        try {
+            return Result.failure(this.scopedFailure(scope, exception));
+        } finally {
+            frames.stackless -= 1;
+        }
+    }
+
+    /**
+     * Records the given scope on a failure that was returned, rather than thrown, from a function run within it.
+     * <p>
+     * This produces the same exception as if the failure had been thrown through {@link #runScoped}.
+     *
+     * @param scope The scope.
+     * @param exception The returned failure.
+     *
+     * @return The given exception.
+     *
+     * @since 0.1.0
+     */
+    protected final @NotNull ScopedException enclose(
+        final @NotNull Scope scope,
+        final @NotNull ScopedException exception
+    )
+    {
+        return scope.wrapException(exception);
+    }
+
+    /**
+     * Records the given scope on a failure that was returned, rather than thrown, from a function run within it,
+     * recording the given index within the exception's path.
+     *
+     * @param scope The scope.
+     * @param exception The returned failure.
+     * @param index The index of the failed value within its parent.
+     *
+     * @return The given exception.
+     *
+     * @see #enclose(Scope, ScopedException)
+     * @since 0.1.0
+     */
+    protected final @NotNull ScopedException enclose(
+        final @NotNull Scope scope,
+        final @NotNull ScopedException exception,
+        final int index
+    )
+    {
+        final @NotNull ScopedException failure = scope.wrapException(exception);
+
+        failure.addPathSegment(Integer.toString(index));
+
+        return failure;
+    }
+
+    /**
+     * Records the given scope on a failure that was returned, rather than thrown, from a function run within it,
+     * recording the given key within the exception's path.
+     *
+     * @param scope The scope.
+     * @param exception The returned failure.
+     * @param key The key of the failed value within its parent.
+     *
+     * @return The given exception.
+     *
+     * @see #enclose(Scope, ScopedException)
+     * @since 0.1.0
+     */
+    protected final @NotNull ScopedException enclose(
+        final @NotNull Scope scope,
+        final @NotNull ScopedException exception,
+        final @NotNull String key
+    )
+    {
+        final @NotNull ScopedException failure = scope.wrapException(exception);
+
+        failure.addPathSegment(key);
+
+        return failure;
+    }
+
+    /**
+     * Runs the given function within a scope, recording the given index within the exception's path on failure.
+     *
+     * @param scope The scope.
+     * @param function The function to run.
+     * @param argument The function's argument.
+     * @param index The index of the argument within its parent.
+     * @param <A> The function's argument type.
+     * @param <T> The function's return type.
+     *
+     * @return The function's return value.
+     *
+     * @throws ScopedException If the given function throws.
+     * @see ScopedException#getPath()
+     * @since 0.1.0
+     */
+    protected final <A, T> @UnknownNullability T runScoped(
+        final @NotNull Scope scope,
+        final @NotNull FallibleFunction<A, T, ? extends Exception> function,
+        final @UnknownNullability A argument,
+        final int index
+    )
+        throws @NotNull ScopedException
+    {
+        try {
+            return this.runScoped(scope, function, argument);
+        } catch (final @NotNull ScopedException exception) {
+            exception.addPathSegment(Integer.toString(index));
+
+            throw exception;
+        }
+    }
+
+    /**
+     * Runs the given function within a scope, recording the given key within the exception's path on failure.
+     *
+     * @param scope The scope.
+     * @param function The function to run.
+     * @param argument The function's argument.
+     * @param key The key of the argument within its parent.
+     * @param <A> The function's argument type.
+     * @param <T> The function's return type.
+     *
+     * @return The function's return value.
+     *
+     * @throws ScopedException If the given function throws.
+     * @see ScopedException#getPath()
+     * @since 0.1.0
+     */
+    protected final <A, T> @UnknownNullability T runScoped(
+        final @NotNull Scope scope,
+        final @NotNull FallibleFunction<A, T, ? extends Exception> function,
+        final @UnknownNullability A argument,
+        final @NotNull String key
+    )
+        throws @NotNull ScopedException
+    {
+        try {
+            return this.runScoped(scope, function, argument);
+        } catch (final @NotNull ScopedException exception) {
+            exception.addPathSegment(key);
+
+            throw exception;
+        }
+    }
+
+    /**
+     * Runs the given function within a scope, recording the given index within the exception's path on failure.
+     *
+     * @param scope The scope.
+     * @param consumer The function to run.
+     * @param first The function's first argument.
+     * @param second The function's second argument.
+     * @param index The index of the second argument within its parent.
+     * @param <A> The function's first argument type.
+     * @param <B> The function's second argument type.
+     *
+     * @throws ScopedException If the given function throws.
+     * @see ScopedException#getPath()
+     * @since 0.1.0
+     */
+    protected final <A, B> void runScoped(
+        final @NotNull Scope scope,
+        final @NotNull FallibleBiConsumer<A, B, ? extends Exception> consumer,
+        final @UnknownNullability A first,
+        final @UnknownNullability B second,
+        final int index
+    )
+        throws @NotNull ScopedException
+    {
+        try {
+            this.runScoped(scope, consumer, first, second);
+        } catch (final @NotNull ScopedException exception) {
+            exception.addPathSegment(Integer.toString(index));
+
+            throw exception;
+        }
+    }
+
+    /**
+     * Runs the given function within a scope, recording the given key within the exception's path on failure.
+     *
+     * @param scope The scope.
+     * @param consumer The function to run.
+     * @param first The function's first argument.
+     * @param second The function's second argument.
+     * @param key The key of the second argument within its parent.
+     * @param <A> The function's first argument type.
+     * @param <B> The function's second argument type.
+     *
+     * @throws ScopedException If the given function throws.
+     * @see ScopedException#getPath()
+     * @since 0.1.0
+     */
+    protected final <A, B> void runScoped(
+        final @NotNull Scope scope,
+        final @NotNull FallibleBiConsumer<A, B, ? extends Exception> consumer,
+        final @UnknownNullability A first,
+        final @UnknownNullability B second,
+        final @NotNull String key
+    )
+        throws @NotNull ScopedException
+    {
+        try {
+            this.runScoped(scope, consumer, first, second);
+        } catch (final @NotNull ScopedException exception) {
+            exception.addPathSegment(key);
+
+            throw exception;
+        }
+    }
+
+    /**
+     * Notifies each {@link Listener} that the given exception was created within the given scope.
+     *
+     * @param scope The scope.
+     * @param exception The new exception.
+     *
+     * @since 0.1.0
+     */
+    private static void notifyFailure(final @NotNull Scoped<?>.Scope scope, final @NotNull ScopedException exception) {
+        for (final @NotNull Listener listener : Scoped.listeners) {
+            listener.onFailure(scope, exception);
+        }
+    }
+
+    /**
+     * Throws the given exception without requiring it to be declared.
+     *
+     * @param throwable The exception to throw.
+     * @param <E> The exception's type, as inferred by the caller.
+     *
+     * @return Never returns; declared so that callers may write {@code throw Scoped.propagate(exception)}.
+     *
+     * @throws E Always.
+     * @since 0.1.0
+     */
+    @SuppressWarnings("unchecked")
+    private static <E extends Throwable> @NotNull RuntimeException propagate(final @NotNull Throwable throwable)
+        throws E
+    {
+        throw (E) throwable;
+    }
+
+    /**
+     * A temporary scope.
+     * <p>
+     * A scope is active on a thread between calls to {@link #enter()} and {@link #exit()} made by that thread. Scopes
+     * may be nested, including scopes of the same {@link Scoped} instance.
+     *
+     * @since 0.1.0
+     */
+    @Internal
+    public final class Scope {
+
+        /**
+         * The scope's context.
+         *
+         * @since 0.1.0
+         */
+        private final @NotNull C context;
+
+        /**
+         * Creates a new {@link Scope} with the given context.
+         *
+         * @param context The scope's context.
+         *
+         * @since 0.1.0
+         */
+        private Scope(final @NotNull C context) {
+            this.context = context;
+        }
+
+        /**
+         * Throws an exception if this {@link Scope} is not the innermost active scope on the current thread.
+         *
+         * @throws IllegalStateException If this scope is not active.
+         * @since 0.1.0
+         */
+        public void requireActive()
+            throws @NotNull IllegalStateException
+        {
+            final @Nullable Scoped<?>.Scope current = Scoped.FRAMES.get().peek();
+
+            if (current == null) {
+                throw new IllegalStateException("A scope is not active.");
+            } else if (current != this) {
+                throw new IllegalStateException("This scope is not active.");
+            }
+        }
+
+        /**
+         * Throws an exception if this {@link Scope} is the innermost active scope on the current thread.
+         *
+         * @throws IllegalStateException If this scope is active.
+         * @since 0.1.0
+         */
+        public void requireInactive()
+            throws @NotNull IllegalStateException
+        {
+            if (this.isActive()) {
+                throw new IllegalStateException("This scope is active.");
+            }
+        }
+
+        /**
+         * Returns {@code true} if this {@link Scope} is the innermost active scope on the current thread.
+         *
+         * @return Whether this scope is active.
+         *
+         * @since 0.1.0
+         */
+        public boolean isActive() {
+            return Scoped.FRAMES.get().peek() == this;
+        }
+
+        /**
+         * Returns {@code true} if this {@link Scope} is not the innermost active scope on the current thread.
+         *
+         * @return Whether this scope is inactive.
+         *
+         * @since 0.1.0
+         */
+        public boolean isInactive() {
+            return !this.isActive();
+        }
+
+        /**
+         * Returns this scope's source instance.
+         *
+         * @return This scope's source.
+         *
+         * @since 0.1.0
+         */
+        public @NotNull Scoped<C> getSource() {
+            return Scoped.this;
+        }
+
+        /**
+         * Returns this scope's configured context.
+         *
+         * @return This scope's context.
+         *
+         * @since 0.1.0
+         */
+        public @NotNull C getContext() {
+            return this.context;
+        }
+
+        /**
+         * Wraps the given exception in a {@link ScopedException}.
+         * <p>
+         * Each {@link Listener} is notified of the failure only when a new exception is created, so a single failure is
+         * reported once no matter how many scopes it propagates through.
+         *
+         * @param exception The exception to wrap.
+         *
+         * @return A new {@link ScopedException}, or the given exception if it is already a {@link ScopedException}, in
+         * which case this scope is recorded as one of its enclosing scopes.
+         *
+         * @since 0.1.0
+         */
+        private @NotNull ScopedException wrapException(final @UnknownNullability Throwable exception) {
+            final @NotNull ScopedException wrapped;
+
+            if (exception instanceof final @NotNull ScopedException scoped) {
+                scoped.addEnclosingScope(this);
+
+                wrapped = scoped;
+            } else {
+                final boolean stackless = Scoped.omitStackTracesGlobally || Scoped.FRAMES.get().stackless > 0;
+
+                wrapped = new ScopedException(this.getSource(), this.getContext(), exception, stackless);
+
+                Scoped.notifyFailure(this, wrapped);
+            }
+
+            return wrapped;
+        }
+
+        /**
+         * Runs the given function without checking whether this scope is active.
+         *
+         * @param runnable The function to run.
+         *
+         * @throws ScopedException If the given function throws.
+         * @since 0.1.0
+         */
+        private void invoke(final @NotNull FallibleRunnable<? extends Exception> runnable)
+            throws @NotNull ScopedException
+        {
+            try {
+                runnable.run();
+            } catch (final @NotNull Exception exception) {
+                throw this.wrapException(exception);
+            }
+        }
+
+        /**
+         * Runs the given function without checking whether this scope is active.
+         *
+         * @param supplier The function to run.
+         * @param <T> The function's return type.
+         *
+         * @return The function's return value.
+         *
+         * @throws ScopedException If the given function throws.
+         * @since 0.1.0
+         */
+        private <T> @UnknownNullability T invoke(final @NotNull FallibleSupplier<T, ? extends Exception> supplier)
+            throws @NotNull ScopedException
+        {
+            try {
+                return supplier.get();
+            } catch (final @NotNull Exception exception) {
+                throw this.wrapException(exception);
+            }
+        }
+
+        /**
+         * Runs the given function without checking whether this scope is active.
+         *
+         * @param function The function to run.
+         * @param argument The function's argument.
+         * @param <A> The function's argument type.
+         * @param <T> The function's return type.
+         *
+         * @return The function's return value.
+         *
+         * @throws ScopedException If the given function throws.
+         * @since 0.1.0
+         */
+        private <A, T> @UnknownNullability T invoke(
+            final @NotNull FallibleFunction<A, T, ? extends Exception> function,
+            final @UnknownNullability A argument
+        )
+            throws @NotNull ScopedException
+        {
+            try {
+                return function.apply(argument);
+            } catch (final @NotNull Exception exception) {
+                throw this.wrapException(exception);
+            }
+        }
+
+        /**
+         * Runs the given function without checking whether this scope is active.
+         *
+         * @param consumer The function to run.
+         * @param first The function's first argument.
+         * @param second The function's second argument.
+         * @param <A> The function's first argument type.
+         * @param <B> The function's second argument type.
+         *
+         * @throws ScopedException If the given function throws.
+         * @since 0.1.0
+         */
+        private <A, B> void invoke(
+            final @NotNull FallibleBiConsumer<A, B, ? extends Exception> consumer,
+            final @UnknownNullability A first,
+            final @UnknownNullability B second
+        )
+            throws @NotNull ScopedException
+        {
+            try {
+                consumer.accept(first, second);
+            } catch (final @NotNull Exception exception) {
+                throw this.wrapException(exception);
+            }
+        }
+
+        /**
+         * Runs the given function.
+         *
+         * @param runnable The function to run.
+         *
+         * @throws IllegalStateException If this scope is not currently active.
+         * @throws ScopedException If the given function throws.
+         * @since 0.1.0
+         */
+        public void run(final @NotNull FallibleRunnable<? extends Exception> runnable)
+            throws @NotNull IllegalStateException, @NotNull ScopedException
+        {
+            this.requireActive();
+            this.invoke(runnable);
+        }
+
+        /**
+         * Runs the given function.
+         *
+         * @param supplier The function to run.
+         * @param <T> The function's return type.
+         *
+         * @return The function's return value.
+         *
+         * @throws IllegalStateException If this scope is not currently active.
+         * @throws ScopedException If the given function throws.
+         * @since 0.1.0
          */
-        public synchronized void exit()
-            throws @NotNull IllegalStateException
+        public <T> @UnknownNullability T run(final @NotNull FallibleSupplier<T, ? extends Exception> supplier)
+            throws @NotNull IllegalStateException, @NotNull ScopedException
+        {
+            this.requireActive();
+
+            return this.invoke(supplier);
+        }
+
+        /**
+         * Runs the given function.
+         *
+         * @param function The function to run.
+         * @param argument The function's argument.
+         * @param <A> The function's argument type.
+         * @param <T> The function's return type.
+         *
+         * @return The function's return value.
+         *
+         * @throws IllegalStateException If this scope is not currently active.
+         * @throws ScopedException If the given function throws.
+         * @since 0.1.0
+         */
+        public <A, T> @UnknownNullability T run(
+            final @NotNull FallibleFunction<A, T, ? extends Exception> function,
+            final @UnknownNullability A argument
+        )
+            throws @NotNull IllegalStateException, @NotNull ScopedException
         {
             this.requireActive();
 
-            Scoped.this.currentScope = null;
+            return this.invoke(function, argument);
+        }
+
+        /**
+         * Enters this scope on the current thread, making it the innermost active scope.
+         *
+         * @since 0.1.0
+         */
+        public void enter() {
+            Scoped.FRAMES.get().push(this);
+        }
+
+        /**
+         * Exits this scope on the current thread.
+         *
+         * @throws IllegalStateException If this is not the innermost active scope.
+         * @since 0.1.0
+         */
+        public void exit()
+            throws @NotNull IllegalStateException
+        {
+            Scoped.FRAMES.get().pop(this);
+        }
+
+    }
+
+    /**
+     * Observes scopes as they are entered, exited, and failed.
+     * <p>
+     * Listeners are notified on the thread that owns the scope, and must therefore be thread-safe. They should not
+     * throw, and should return quickly, as they are notified for every step of every conversion and validation. Scopes
+     * skipped by {@link Scoped#runOptimistic} do not produce events unless they are replayed.
+     *
+     * @see Scoped#addListener(Listener)
+     * @since 0.1.0
+     */
+    public interface Listener {
+
+        /**
+         * Called after the given scope is entered.
+         *
+         * @param scope The scope.
+         *
+         * @since 0.1.0
+         */
+        default void onEnter(final @NotNull Scoped<?>.Scope scope) { }
+
+        /**
+         * Called after the given scope is exited, regardless of whether it failed.
+         *
+         * @param scope The scope.
+         *
+         * @since 0.1.0
+         */
+        default void onExit(final @NotNull Scoped<?>.Scope scope) { }
+
+        /**
+         * Called when a function run within the given scope throws, before the scope is exited.
+         * <p>
+         * This is called once per failure, for the scope in which the {@link ScopedException} was created. Enclosing
+         * scopes that the exception propagates through are not reported, but are recorded on the exception; see
+         * {@link ScopedException#getEnclosingContexts()}. A {@link BudgetExceededException} thrown while entering a
+         * scope is reported for that scope, without it having been entered.
+         *
+         * @param scope The scope.
+         * @param exception The exception that will be thrown from the scope.
+         *
+         * @since 0.1.0
+         */
+        default void onFailure(final @NotNull Scoped<?>.Scope scope, final @NotNull ScopedException exception) { }
+
+    }
+
+    /**
+     * The stack of scopes that are active on a single thread.
+     *
+     * @since 0.1.0
+     */
+    private static final class Frames {
+
+        /**
+         * The active scopes, from outermost to innermost.
+         *
+         * @since 0.1.0
+         */
+        private @Nullable Scoped<?>.Scope @NotNull [] scopes = new Scoped<?>.Scope[8];
+        /**
+         * The number of active scopes.
+         *
+         * @since 0.1.0
+         */
+        private int depth;
+        /**
+         * The number of active scopes whose sources omit stack traces.
+         *
+         * @since 0.1.0
+         */
+        private int stackless;
+        /**
+         * Whether scope bookkeeping is disabled while an optimistic run is in progress.
+         *
+         * @since 0.1.0
+         */
+        private boolean optimistic;
+        /**
+         * Whether a failed optimistic run is being replayed within its scopes.
+         *
+         * @since 0.1.0
+         */
+        private boolean replaying;
+        /**
+         * The budget being enforced on this thread, if any.
+         *
+         * @since 0.1.0
+         */
+        private @Nullable Allowance allowance;
+
+        /**
+         * Creates a new, empty {@link Frames} stack.
+         *
+         * @since 0.1.0
+         */
+        private Frames() { }
+
+        /**
+         * Returns the innermost active scope, if one exists.
+         *
+         * @return The innermost scope.
+         *
+         * @since 0.1.0
+         */
+        private @Nullable Scoped<?>.Scope peek() {
+            return this.depth == 0 ? null : this.scopes[this.depth - 1];
+        }
+
+        /**
+         * Returns the innermost active scope created by the given source, if one exists.
+         *
+         * @param source The source instance.
+         * @param <C> The context type.
+         *
+         * @return The innermost scope of the given source.
+         *
+         * @since 0.1.0
+         */
+        @SuppressWarnings("unchecked")
+        private <C> @Nullable Scoped<C>.Scope find(final @NotNull Scoped<C> source) {
+            for (int index = this.depth - 1; index >= 0; index -= 1) {
+                final @Nullable Scoped<?>.Scope scope = this.scopes[index];
+
+                if (scope != null && scope.getSource() == source) return (Scoped<C>.Scope) scope;
+            }
+
+            return null;
+        }
+
+        /**
+         * Pushes the given scope onto this stack.
+         *
+         * @param scope The scope being entered.
+         *
+         * @throws BudgetExceededException If entering the scope would exceed this thread's budget.
+         * @since 0.1.0
+         */
+        private void push(final @NotNull Scoped<?>.Scope scope)
+            throws @NotNull BudgetExceededException
+        {
+            if (Objects.nonNull(this.allowance)) this.allowance.check(scope, this.depth, this.stackless > 0);
+
+            if (this.depth == this.scopes.length) {
+                this.scopes = Arrays.copyOf(this.scopes, this.depth * 2);
+            }
+
+            this.scopes[this.depth] = scope;
+            this.depth += 1;
+
+            if (scope.getSource().omitStackTraces) this.stackless += 1;
+
+            for (final @NotNull Listener listener : Scoped.listeners) {
+                listener.onEnter(scope);
+            }
+        }
+
+        /**
+         * Consumes the given number of elements from this thread's budgets.
+         *
+         * @param scope The scope that is processing the elements.
+         * @param elements The number of elements.
+         *
+         * @throws BudgetExceededException If a budget's element limit or timeout is exceeded.
+         * @since 0.1.0
+         */
+        private void consume(final @NotNull Scoped<?>.Scope scope, final int elements)
+            throws @NotNull BudgetExceededException
+        {
+            @Nullable Allowance allowance = this.allowance;
+
+            while (Objects.nonNull(allowance)) {
+                allowance.consume(scope, elements, this.stackless > 0);
+
+                allowance = allowance.previous;
+            }
+        }
+
+        /**
+         * Pops the given scope from this stack.
+         *
+         * @param scope The scope being exited.
+         *
+         * @throws IllegalStateException If the given scope is not the innermost active scope.
+         * @since 0.1.0
+         */
+        private void pop(final @NotNull Scoped<?>.Scope scope)
+            throws @NotNull IllegalStateException
+        {
+            if (this.depth == 0) {
+                throw new IllegalStateException("A scope is not active.");
+            } else if (this.scopes[this.depth - 1] != scope) {
+                throw new IllegalStateException("This scope is not active.");
+            }
+
+            this.depth -= 1;
+            this.scopes[this.depth] = null;
+
+            if (scope.getSource().omitStackTraces) this.stackless -= 1;
+
+            for (final @NotNull Listener listener : Scoped.listeners) {
+                listener.onExit(scope);
+            }
+        }
+
+    }
+
+    /**
+     * The remaining allowance of a {@link Budget} being enforced on a single thread.
+     *
+     * @since 0.1.0
+     */
+    private static final class Allowance {
+
+        /**
+         * The number of scopes entered or elements consumed between checks of the deadline.
+         *
+         * @since 0.1.0
+         */
+        private static final int DEADLINE_INTERVAL = 64;
+
+        /**
+         * The budget being enforced.
+         *
+         * @since 0.1.0
+         */
+        private final @NotNull Budget budget;
+        /**
+         * The enclosing allowance, if any.
+         *
+         * @since 0.1.0
+         */
+        private final @Nullable Allowance previous;
+        /**
+         * The {@link System#nanoTime()} at which the budget expires.
+         *
+         * @since 0.1.0
+         */
+        private final long deadline;
+        /**
+         * The stack depth at which the budget's depth limit is exceeded.
+         *
+         * @since 0.1.0
+         */
+        private final int depthLimit;
+        /**
+         * The number of elements that may still be consumed.
+         *
+         * @since 0.1.0
+         */
+        private long elements;
+        /**
+         * The number of scopes entered or elements consumed since the deadline was last checked.
+         *
+         * @since 0.1.0
+         */
+        private int sinceDeadlineCheck;
+
+        /**
+         * Creates a new {@link Allowance}.
+         *
+         * @param budget The budget being enforced.
+         * @param depth The stack depth at which the budget starts.
+         * @param previous The enclosing allowance, if any.
+         *
+         * @since 0.1.0
+         */
+        private Allowance(final @NotNull Budget budget, final int depth, final @Nullable Allowance previous) {
+            this.budget = budget;
+            this.previous = previous;
+            final long timeout = budget.timeout().compareTo(Budget.MAX_TIMEOUT) >= 0
+                ? Long.MAX_VALUE
+                : budget.timeout().toNanos();
+
+            this.deadline = System.nanoTime() + timeout;
+            this.depthLimit = (int) Math.min(Integer.MAX_VALUE, (long) depth + budget.maxDepth());
+            this.elements = budget.maxElements();
+        }
+
+        /**
+         * Checks whether entering the given scope exceeds this allowance or any enclosing allowance.
+         *
+         * @param scope The scope being entered.
+         * @param depth The current stack depth.
+         * @param stackless Whether thrown exceptions omit their stack traces.
+         *
+         * @throws BudgetExceededException If the scope exceeds a budget.
+         * @since 0.1.0
+         */
+        private void check(final @NotNull Scoped<?>.Scope scope, final int depth, final boolean stackless)
+            throws @NotNull BudgetExceededException
+        {
+            if (depth >= this.depthLimit) {
+                final @NotNull String message = "depth limit of %d exceeded".formatted(this.budget.maxDepth());
+
+                throw Allowance.exceeded(scope, message, stackless);
+            }
+
+            this.checkDeadline(scope, 1, stackless);
+
+            if (Objects.nonNull(this.previous)) this.previous.check(scope, depth, stackless);
+        }
+
+        /**
+         * Checks whether this allowance's deadline has passed, if enough work has been done since it was last checked.
+         *
+         * @param scope The scope doing the work.
+         * @param work The number of scopes entered or elements consumed.
+         * @param stackless Whether thrown exceptions omit their stack traces.
+         *
+         * @throws BudgetExceededException If the deadline has passed.
+         * @since 0.1.0
+         */
+        private void checkDeadline(final @NotNull Scoped<?>.Scope scope, final int work, final boolean stackless)
+            throws @NotNull BudgetExceededException
+        {
+            if (work < Allowance.DEADLINE_INTERVAL - this.sinceDeadlineCheck) {
+                this.sinceDeadlineCheck += work;
+
+                return;
+            }
+
+            this.sinceDeadlineCheck = 0;
+
+            if (System.nanoTime() - this.deadline > 0) {
+                final @NotNull String message = "timeout of %s exceeded".formatted(this.budget.timeout());
+
+                throw Allowance.exceeded(scope, message, stackless);
+            }
+        }
+
+        /**
+         * Creates an exception for an exceeded budget, notifying each {@link Listener} of the failure.
+         *
+         * @param scope The scope in which the budget was exceeded.
+         * @param message The exception's message.
+         * @param stackless Whether the exception omits its stack trace.
+         *
+         * @return A new exception.
+         *
+         * @since 0.1.0
+         */
+        private static @NotNull BudgetExceededException exceeded(
+            final @NotNull Scoped<?>.Scope scope,
+            final @NotNull String message,
+            final boolean stackless
+        )
+        {
+            final @NotNull BudgetExceededException exception =
+                new BudgetExceededException(scope.getSource(), scope.getContext(), message, stackless);
+
+            Scoped.notifyFailure(scope, exception);
+
+            return exception;
+        }
+
+        /**
+         * Consumes the given number of elements from this allowance.
+         *
+         * @param scope The scope that is processing the elements.
+         * @param elements The number of elements.
+         * @param stackless Whether thrown exceptions omit their stack traces.
+         *
+         * @throws BudgetExceededException If the element limit is exceeded or the deadline has passed.
+         * @since 0.1.0
+         */
+        private void consume(final @NotNull Scoped<?>.Scope scope, final int elements, final boolean stackless)
+            throws @NotNull BudgetExceededException
+        {
+            this.elements -= elements;
+
+            if (this.elements < 0) {
+                final @NotNull String message = "element limit of %d exceeded".formatted(this.budget.maxElements());
+
+                throw Allowance.exceeded(scope, message, stackless);
+            }
+
+            this.checkDeadline(scope, elements, stackless);
         }
 
     }
@@ -17,10 +17,17 @@ package dev.jaxydog.ochre.utility;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.StringJoiner;
 
 /**
  * An exception that is thrown when code within a {@link Scoped.Scope} throws.
+ * <p>
+ * A failure produces a single exception, no matter how deeply its scope is nested. The exception's source and context
+ * describe the innermost scope in which the failure occurred, and each enclosing scope records itself on the exception
+ * as it propagates rather than wrapping it in another exception.
  *
  * @author Jaxydog
  * @since 0.1.0
@@ -41,6 +48,34 @@ public class ScopedException
      * @since 0.1.0
      */
     private final @NotNull Object context;
+    /**
+     * An additional message provided via the constructor.
+     *
+     * @since 0.1.0
+     */
+    private final @Nullable String additionalMessage;
+    /**
+     * The exception's message, created on first access.
+     *
+     * @since 0.1.0
+     */
+    private @Nullable String message;
+    /**
+     * The path segments recorded while this exception propagated, from innermost to outermost.
+     * <p>
+     * This is not serialized, so a deserialized exception has no path.
+     *
+     * @since 0.1.0
+     */
+    private transient @Nullable List<@NotNull String> pathSegments;
+    /**
+     * The enclosing scopes that this exception propagated through, from innermost to outermost.
+     * <p>
+     * This is not serialized, as scopes are not serializable.
+     *
+     * @since 0.1.0
+     */
+    private transient @Nullable List<Scoped<?>.@NotNull Scope> enclosingScopes;
 
     /**
      * Creates a new {@link ScopedException}.
@@ -51,10 +86,11 @@ public class ScopedException
      * @since 0.1.0
      */
     ScopedException(final @NotNull Scoped<?> source, final @NotNull Object context) {
-        super(ScopedException.createMessage(source, context, null));
+        super((String) null);
 
         this.source = source;
         this.context = context;
+        this.additionalMessage = null;
     }
 
     /**
@@ -68,10 +104,11 @@ public class ScopedException
      */
     ScopedException(final @NotNull Scoped<?> source, final @NotNull Object context, final @Nullable String message)
     {
-        super(ScopedException.createMessage(source, context, message));
+        super((String) null);
 
         this.source = source;
         this.context = context;
+        this.additionalMessage = message;
     }
 
     /**
@@ -85,10 +122,11 @@ public class ScopedException
      */
     ScopedException(final @NotNull Scoped<?> source, final @NotNull Object context, final @Nullable Throwable cause)
     {
-        super(ScopedException.createMessage(source, context, null), cause);
+        super(null, cause);
 
         this.source = source;
         this.context = context;
+        this.additionalMessage = null;
     }
 
     /**
@@ -108,38 +146,109 @@ public class ScopedException
         final @Nullable Throwable cause
     )
     {
-        super(ScopedException.createMessage(source, context, message), cause);
+        super(null, cause);
 
         this.source = source;
         this.context = context;
+        this.additionalMessage = message;
     }
 
     /**
-     * Creates a new message for an exception using the given source value and context.
+     * Creates a new {@link ScopedException}.
      *
      * @param source The source {@link Scoped} instance.
      * @param context The {@link Scoped.Scope}'s context.
-     * @param additionalMessage An additional message provided via the constructor.
+     * @param cause The cause of this exception.
+     * @param omitStackTrace Whether to skip capturing this exception's stack trace.
      *
-     * @return A new message.
+     * @since 0.1.0
+     */
+    ScopedException(
+        final @NotNull Scoped<?> source,
+        final @NotNull Object context,
+        final @Nullable Throwable cause,
+        final boolean omitStackTrace
+    )
+    {
+        super(null, cause, true, !omitStackTrace);
+
+        this.source = source;
+        this.context = context;
+        this.additionalMessage = null;
+    }
+
+    /**
+     * Creates a new {@link ScopedException}.
+     *
+     * @param source The source {@link Scoped} instance.
+     * @param context The {@link Scoped.Scope}'s context.
+     * @param message The exception's message.
+     * @param omitStackTrace Whether to skip capturing this exception's stack trace.
      *
      * @since 0.1.0
      */
-    private static @NotNull String createMessage(
+    ScopedException(
         final @NotNull Scoped<?> source,
         final @NotNull Object context,
-        final @Nullable String additionalMessage
+        final @Nullable String message,
+        final boolean omitStackTrace
     )
     {
-        final @NotNull String typeName = source.getClass().getSimpleName();
+        super(null, null, true, !omitStackTrace);
 
-        if (Objects.isNull(additionalMessage)) {
-            return "Exception within '%s' scope (context: %s)".formatted(typeName, context);
+        this.source = source;
+        this.context = context;
+        this.additionalMessage = message;
+    }
+
+    /**
+     * Creates a new message for this exception using its source value and context.
+     *
+     * @return A new message.
+     *
+     * @since 0.1.0
+     */
+    private @NotNull String createMessage() {
+        final @NotNull String typeName = this.source.getClass().getSimpleName();
+        final @NotNull String path = this.getPath();
+        final @NotNull String location = path.isEmpty() ? "" : ", path: '%s'".formatted(path);
+        final @NotNull StringJoiner within = new StringJoiner(" in ", ", within: ", "").setEmptyValue("");
+
+        for (final @NotNull Object context : this.getEnclosingContexts()) {
+            within.add(context.toString());
+        }
+
+        if (Objects.isNull(this.additionalMessage)) {
+            return "Exception within '%s' scope (context: %s%s%s)".formatted(typeName, this.context, within, location);
         } else {
-            return "Exception within '%s' scope (context: %s): %s".formatted(typeName, context, additionalMessage);
+            final @NotNull String format = "Exception within '%s' scope (context: %s%s%s): %s";
+
+            return format.formatted(typeName, this.context, within, location, this.additionalMessage);
         }
     }
 
+    /**
+     * Returns this exception's message.
+     * <p>
+     * The message is only created when first requested, keeping exceptions that are caught and discarded cheap.
+     *
+     * @return The message.
+     *
+     * @since 0.1.0
+     */
+    @Override
+    public @NotNull String getMessage() {
+        @Nullable String message = this.message;
+
+        if (Objects.isNull(message)) {
+            message = this.createMessage();
+
+            this.message = message;
+        }
+
+        return message;
+    }
+
     /**
      * Returns the source {@link Scoped} instance.
      *
@@ -163,7 +272,100 @@ public class ScopedException
     }
 
     /**
-     * Returns {@code true} if this exception was thrown in the given scope.
+     * Records an enclosing scope that this exception is propagating through.
+     * <p>
+     * Scopes must be added from innermost to outermost. A scope is not recorded if it matches the most recently
+     * recorded scope, which occurs when a scope is re-entered from within itself.
+     *
+     * @param scope The enclosing scope.
+     *
+     * @since 0.1.0
+     */
+    void addEnclosingScope(final @NotNull Scoped<?>.Scope scope) {
+        if (Objects.isNull(this.enclosingScopes)) {
+            if (this.matchesScope(scope)) return;
+
+            this.enclosingScopes = new ArrayList<>(4);
+        } else {
+            final @NotNull Scoped<?>.Scope last = this.enclosingScopes.getLast();
+
+            if (last.getSource().equals(scope.getSource()) && last.getContext().equals(scope.getContext())) return;
+        }
+
+        this.enclosingScopes.add(scope);
+        this.message = null;
+    }
+
+    /**
+     * Returns the contexts of the enclosing scopes that this exception propagated through, from innermost to
+     * outermost.
+     * <p>
+     * The context of the scope in which this exception was thrown is not included; see {@link #getContext()}.
+     *
+     * @return An immutable list of contexts.
+     *
+     * @since 0.1.0
+     */
+    public final @NotNull List<@NotNull Object> getEnclosingContexts() {
+        if (Objects.isNull(this.enclosingScopes)) return List.of();
+
+        final @NotNull List<@NotNull Object> contexts = new ArrayList<>(this.enclosingScopes.size());
+
+        for (final @NotNull Scoped<?>.Scope scope : this.enclosingScopes) {
+            contexts.add(scope.getContext());
+        }
+
+        return List.copyOf(contexts);
+    }
+
+    /**
+     * Records a path segment, such as a list index or map key, of the value that was being processed when this
+     * exception was thrown.
+     * <p>
+     * Segments are recorded while the exception propagates, and must therefore be added from innermost to outermost.
+     *
+     * @param segment The path segment.
+     *
+     * @since 0.1.0
+     */
+    void addPathSegment(final @NotNull String segment) {
+        if (Objects.isNull(this.pathSegments)) this.pathSegments = new ArrayList<>(4);
+
+        this.pathSegments.add(segment);
+        this.message = null;
+    }
+
+    /**
+     * Returns the location of the value that failed, as a JSON pointer relative to the value passed to the outermost
+     * scope.
+     * <p>
+     * The path includes any segments recorded by this exception's {@link ScopedException} causes. For example, a failed
+     * entry within a list stored under a map's {@code "biomes"} key has the path {@code /biomes/17}. An empty path
+     * refers to the value itself.
+     *
+     * @return The failed value's location.
+     *
+     * @since 0.1.0
+     */
+    public final @NotNull String getPath() {
+        final @NotNull StringBuilder builder = new StringBuilder();
+
+        for (@Nullable Throwable throwable = this; Objects.nonNull(throwable); throwable = throwable.getCause()) {
+            if (!(throwable instanceof final @NotNull ScopedException scoped)) continue;
+            if (Objects.isNull(scoped.pathSegments)) continue;
+
+            for (int index = scoped.pathSegments.size() - 1; index >= 0; index -= 1) {
+                final @NotNull String segment = scoped.pathSegments.get(index);
+
+                builder.append('/').append(segment.replace("~", "~0").replace("/", "~1"));
+            }
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Returns {@code true} if this exception was thrown in the given scope, rather than in a scope nested within it.
      *
      * @param scope The scope to test against.
      *
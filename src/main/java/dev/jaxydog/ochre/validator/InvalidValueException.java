@@ -33,7 +33,30 @@ public class InvalidValueException extends RuntimeException {
      * @since 0.1.0
      */
     public InvalidValueException(final @NotNull String expected, final @NotNull String received) {
-        super("Value failed validation; expected '%s', received '%s'".formatted(expected, received));
+        this(expected, received, false);
+    }
+
+    /**
+     * Creates a new {@link InvalidValueException}.
+     *
+     * @param expected The expected value.
+     * @param received The received value.
+     * @param omitStackTrace Whether to skip capturing this exception's stack trace.
+     *
+     * @since 0.1.0
+     */
+    public InvalidValueException(
+        final @NotNull String expected,
+        final @NotNull String received,
+        final boolean omitStackTrace
+    )
+    {
+        super(
+            "Value failed validation; expected '%s', received '%s'".formatted(expected, received),
+            null,
+            true,
+            !omitStackTrace
+        );
     }
 
 }
@@ -14,10 +14,12 @@
 
 package dev.jaxydog.ochre.validator;
 
+import dev.jaxydog.ochre.utility.FallibleFunction;
 import dev.jaxydog.ochre.utility.Scoped;
 import dev.jaxydog.ochre.utility.ScopedException;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -44,6 +46,17 @@ public abstract class Validator<T>
      */
     protected Validator() { }
 
+    /**
+     * Creates a new {@link Validator}.
+     *
+     * @param omitStackTraces Whether exceptions thrown by this validator omit their stack traces.
+     *
+     * @since 0.1.0
+     */
+    protected Validator(final boolean omitStackTraces) {
+        super(omitStackTraces);
+    }
+
     /**
      * Creates a new {@link Validator} using the given predicate.
      *
@@ -62,8 +75,12 @@ public abstract class Validator<T>
         final @NotNull Predicate<@NotNull T> predicate
     )
     {
+        final @NotNull FallibleFunction<@NotNull T, @NotNull Boolean, RuntimeException> test = predicate::test;
+
         return new Validator<>() {
 
+            private final @NotNull Scope scope = this.createScope(new Context("custom implementation"));
+
             @Override
             public @NotNull String expected() {
                 return expected;
@@ -78,7 +95,7 @@ public abstract class Validator<T>
             public boolean test(@NotNull T value)
                 throws @NotNull ScopedException
             {
-                return this.runScoped(new Context("custom implementation"), () -> predicate.test(value));
+                return this.runScoped(this.scope, test, value);
             }
 
         };
@@ -87,6 +104,8 @@ public abstract class Validator<T>
     /**
      * Returns a new {@link  Validator} that marks a value as valid if all input {@link Validator}s consider it to be
      * valid.
+     * <p>
+     * The given list is copied, so later changes to it do not affect the returned validator.
      *
      * @param validators A list of validators.
      * @param <T> The type being tested.
@@ -96,11 +115,17 @@ public abstract class Validator<T>
      * @since 0.1.0
      */
     public static <T> Validator<T> all(final @NotNull List<@NotNull Validator<T>> validators) {
+        final @NotNull List<@NotNull Validator<T>> snapshot = List.copyOf(validators);
+        final @NotNull List<@NotNull FallibleFunction<@NotNull T, @NotNull Boolean, ScopedException>> tests =
+            Validator.tests(snapshot);
+
         return new Validator<>() {
 
+            private final @NotNull Scope scope = this.createScope(new Context("iterative testing"));
+
             @Override
             public @NotNull String expected() {
-                final @NotNull Stream<String> expectations = validators.stream().map(Validator::expected);
+                final @NotNull Stream<String> expectations = snapshot.stream().map(Validator::expected);
 
                 return "all of: %s".formatted(expectations.collect(Collectors.joining(", ")));
             }
@@ -108,7 +133,7 @@ public abstract class Validator<T>
             @Override
             public @NotNull String received(@NotNull T value) {
                 final @NotNull Stream<String> received =
-                    validators.stream().map((final @NotNull Validator<T> validator) -> validator.received(value));
+                    snapshot.stream().map((final @NotNull Validator<T> validator) -> validator.received(value));
 
                 return "any of: %s".formatted(received.collect(Collectors.joining(", ")));
             }
@@ -117,13 +142,11 @@ public abstract class Validator<T>
             public boolean test(@NotNull T value)
                 throws @NotNull ScopedException
             {
-                final @NotNull Scope scope = this.createScope(new Context("iterative testing"));
+                for (int index = 0; index < tests.size(); index += 1) {
+                    if (!this.runScoped(this.scope, tests.get(index), value)) return false;
+                }
 
-                return validators.stream()
-                    .allMatch((final @NotNull Validator<T> validator) -> this.runScoped(
-                        scope,
-                        () -> validator.test(value)
-                    ));
+                return true;
             }
 
         };
@@ -132,6 +155,8 @@ public abstract class Validator<T>
     /**
      * Returns a new {@link  Validator} that marks a value as valid if any input {@link Validator}s consider it to be
      * valid.
+     * <p>
+     * The given list is copied, so later changes to it do not affect the returned validator.
      *
      * @param validators A list of validators.
      * @param <T> The type being tested.
@@ -141,11 +166,17 @@ public abstract class Validator<T>
      * @since 0.1.0
      */
     public static <T> Validator<T> any(final @NotNull List<@NotNull Validator<T>> validators) {
+        final @NotNull List<@NotNull Validator<T>> snapshot = List.copyOf(validators);
+        final @NotNull List<@NotNull FallibleFunction<@NotNull T, @NotNull Boolean, ScopedException>> tests =
+            Validator.tests(snapshot);
+
         return new Validator<>() {
 
+            private final @NotNull Scope scope = this.createScope(new Context("iterative testing"));
+
             @Override
             public @NotNull String expected() {
-                final @NotNull Stream<String> expectations = validators.stream().map(Validator::expected);
+                final @NotNull Stream<String> expectations = snapshot.stream().map(Validator::expected);
 
                 return "any of: %s".formatted(expectations.collect(Collectors.joining(", ")));
             }
@@ -153,7 +184,7 @@ public abstract class Validator<T>
             @Override
             public @NotNull String received(@NotNull T value) {
                 final @NotNull Stream<String> received =
-                    validators.stream().map((final @NotNull Validator<T> validator) -> validator.received(value));
+                    snapshot.stream().map((final @NotNull Validator<T> validator) -> validator.received(value));
 
                 return "all of: %s".formatted(received.collect(Collectors.joining(", ")));
             }
@@ -162,18 +193,40 @@ public abstract class Validator<T>
             public boolean test(@NotNull T value)
                 throws @NotNull ScopedException
             {
-                final @NotNull Scope scope = this.createScope(new Context("iterative testing"));
+                for (int index = 0; index < tests.size(); index += 1) {
+                    if (this.runScoped(this.scope, tests.get(index), value)) return true;
+                }
 
-                return validators.stream()
-                    .anyMatch((final @NotNull Validator<T> validator) -> this.runScoped(
-                        scope,
-                        () -> validator.test(value)
-                    ));
+                return false;
             }
 
         };
     }
 
+    /**
+     * Returns the test functions of the given {@link Validator}s, allowing them to be invoked without allocating.
+     *
+     * @param validators A list of validators.
+     * @param <T> The type being tested.
+     *
+     * @return An immutable list of test functions.
+     *
+     * @since 0.1.0
+     */
+    private static <T> @NotNull List<@NotNull FallibleFunction<@NotNull T, @NotNull Boolean, ScopedException>> tests(
+        final @NotNull List<@NotNull Validator<T>> validators
+    )
+    {
+        final @NotNull List<@NotNull FallibleFunction<@NotNull T, @NotNull Boolean, ScopedException>> tests =
+            new ArrayList<>(validators.size());
+
+        for (final @NotNull Validator<T> validator : validators) {
+            tests.add(validator::test);
+        }
+
+        return List.copyOf(tests);
+    }
+
     /**
      * Returns a string describing what this {@link Validator} was expecting.
      *
@@ -219,7 +272,9 @@ public abstract class Validator<T>
     public void validate(final @NotNull T value)
         throws @NotNull ScopedException, @NotNull InvalidValueException
     {
-        if (!this.test(value)) throw new InvalidValueException(this.expected(), this.received(value));
+        if (!this.test(value)) {
+            throw new InvalidValueException(this.expected(), this.received(value), this.shouldOmitStackTraces());
+        }
     }
 
     /**
@@ -238,9 +293,13 @@ public abstract class Validator<T>
     )
     {
         final @NotNull Validator<T> self = this;
+        final @NotNull FallibleFunction<@NotNull T, @NotNull Boolean, ScopedException> test =
+            (final @NotNull T value) -> combine.apply(self.test(value), other.test(value));
 
         return new Validator<>() {
 
+            private final @NotNull Scope scope = this.createScope(new Context("chaining"));
+
             @Override
             public @NotNull String expected() {
                 return "%s and %s".formatted(self.expected(), other.expected());
@@ -255,10 +314,84 @@ public abstract class Validator<T>
             public boolean test(@NotNull T value)
                 throws @NotNull ScopedException
             {
-                return this.runScoped(
-                    new Context("chaining"),
-                    () -> combine.apply(self.test(value), other.test(value))
-                );
+                return this.runScoped(this.scope, test, value);
+            }
+
+        };
+    }
+
+    /**
+     * Returns a new {@link Validator} that wraps this value, omitting the stack traces of any exceptions thrown while
+     * it is testing or validating a value.
+     * <p>
+     * This is useful when failures are expected and handled, as capturing a stack trace is typically the most expensive
+     * part of throwing an exception.
+     *
+     * @return A new {@link Validator}.
+     *
+     * @since 0.1.0
+     */
+    public final @NotNull Validator<T> stackless() {
+        final @NotNull Validator<T> self = this;
+        final @NotNull FallibleFunction<@NotNull T, @NotNull Boolean, ScopedException> test = self::test;
+
+        return new Validator<>(true) {
+
+            private final @NotNull Scope scope = this.createScope(new Context("stackless testing"));
+
+            @Override
+            public @NotNull String expected() {
+                return self.expected();
+            }
+
+            @Override
+            public @NotNull String received(@NotNull T value) {
+                return self.received(value);
+            }
+
+            @Override
+            public boolean test(@NotNull T value)
+                throws @NotNull ScopedException
+            {
+                return this.runScoped(this.scope, test, value);
+            }
+
+        };
+    }
+
+    /**
+     * Returns a new {@link Validator} that wraps this value, running tests without any scope bookkeeping.
+     * <p>
+     * If a test fails by throwing, it is run again with scopes enabled, producing the same {@link ScopedException} that
+     * this validator would have thrown. This validator's tests should be free of side effects.
+     *
+     * @return A new {@link Validator}.
+     *
+     * @since 0.1.0
+     */
+    public final @NotNull Validator<T> optimistic() {
+        final @NotNull Validator<T> self = this;
+        final @NotNull FallibleFunction<@NotNull T, @NotNull Boolean, ScopedException> test = self::test;
+
+        return new Validator<>() {
+
+            private final @NotNull Scope scope = this.createScope(new Context("optimistic testing"));
+
+            @Override
+            public @NotNull String expected() {
+                return self.expected();
+            }
+
+            @Override
+            public @NotNull String received(@NotNull T value) {
+                return self.received(value);
+            }
+
+            @Override
+            public boolean test(@NotNull T value)
+                throws @NotNull ScopedException
+            {
+                return this.runOptimistic(this.scope, test, value);
             }
 
         };